@@ -0,0 +1,81 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads all sheet cells, non-numeric cells are skipped by BigDecimal benchmark.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExcelCellDataAccessObjectBenchmark {
+
+    private static final ExcelCellDataAccessObject dao = ExcelCellDataAccessObject.INSTANCE;
+
+    @Benchmark
+    public void getStringValue(SheetState state, Blackhole blackhole) {
+        for (Row row : state.sheet) {
+            for (Cell cell : row) {
+                blackhole.consume(dao.getStringValue(cell));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getBigDecimalValue(SheetState state, Blackhole blackhole) {
+        for (Row row : state.sheet) {
+            for (Cell cell : row) {
+                if (isNumeric(cell)) {
+                    blackhole.consume(dao.getBigDecimalValue(cell));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void getValue(SheetState state, Blackhole blackhole) {
+        for (Row row : state.sheet) {
+            for (Cell cell : row) {
+                blackhole.consume(dao.getValue(cell));
+            }
+        }
+    }
+
+    private static boolean isNumeric(Cell cell) {
+        CellType type = cell.getCellType();
+        return type == CellType.NUMERIC ||
+                (type == CellType.FORMULA && cell.getCachedFormulaResultType() == CellType.NUMERIC);
+    }
+}
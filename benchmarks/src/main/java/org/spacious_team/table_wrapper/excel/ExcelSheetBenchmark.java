@@ -0,0 +1,86 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sheet searches, searched values are in the last row, so every search scans the whole sheet.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExcelSheetBenchmark {
+
+    @Benchmark
+    public TableCellAddress find(SheetState state) {
+        return ExcelTableHelper.find(state.sheet, state.lastRowValue, 0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public TableCellAddress find_notFound(SheetState state) {
+        return state.reportPage.find("not found value");
+    }
+
+    @Benchmark
+    public TableCellAddress findByPrefix(SheetState state) {
+        return state.reportPage.findByPrefix(state.lastRowValue);
+    }
+
+    @Benchmark
+    public TableCellAddress find_number(SheetState state) {
+        return state.reportPage.find(-1);
+    }
+
+    @Benchmark
+    public int findEmptyRow(SheetState state) {
+        return state.reportPage.findEmptyRow(1, Integer.MAX_VALUE);  // empty row cache is disabled, rows are scanned
+    }
+
+    @Benchmark
+    public int findEmptyRow_cached(EmptyRowCacheState state) {
+        return state.reportPage.findEmptyRow(1, Integer.MAX_VALUE);
+    }
+
+    @State(Scope.Benchmark)
+    public static class EmptyRowCacheState {
+        ExcelSheet reportPage;
+
+        @Setup(Level.Trial)
+        public void setUp(SheetState state) {
+            reportPage = new ExcelSheet(state.sheet);
+            reportPage.enableEmptyRowCache();
+        }
+    }
+}
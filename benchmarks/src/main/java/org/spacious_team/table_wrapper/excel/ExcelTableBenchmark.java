@@ -0,0 +1,94 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spacious_team.table_wrapper.api.ConstantPositionTableColumn;
+import org.spacious_team.table_wrapper.api.Table;
+import org.spacious_team.table_wrapper.api.TableCell;
+import org.spacious_team.table_wrapper.api.TableCellRange;
+import org.spacious_team.table_wrapper.api.TableColumn;
+import org.spacious_team.table_wrapper.api.TableHeaderColumn;
+import org.spacious_team.table_wrapper.api.TableRow;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Iterates whole sheet table, which header is the first sheet row.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExcelTableBenchmark {
+
+    @Benchmark
+    public void iterateTable(SheetState state, Blackhole blackhole) {
+        Table table = createTable(state);
+        for (TableRow row : table) {
+            for (Header column : Header.values()) {
+                blackhole.consume(row.getCellValue(column));
+            }
+        }
+    }
+
+    @Benchmark
+    public void iterateRowCells(SheetState state, Blackhole blackhole) {
+        ExcelSheet reportPage = state.reportPage;
+        for (int i = 0, n = reportPage.getLastRowNum(); i <= n; i++) {
+            ExcelTableRow row = reportPage.getRow(i);
+            if (row != null) {
+                for (TableCell cell : row) {
+                    blackhole.consume(cell.getValue());
+                }
+            }
+        }
+    }
+
+    private static Table createTable(SheetState state) {
+        TableCellRange range = TableCellRange.of(0, state.sheet.getLastRowNum(), 0, SheetState.COLUMNS - 1);
+        return new ExcelTable(state.reportPage, "data", range, Header.class, 1);
+    }
+
+    enum Header implements TableHeaderColumn {
+        NAME(0),
+        NUMBER(1),
+        VALUE(2),
+        SPARSE_VALUE(4);
+
+        private final TableColumn column;
+
+        Header(int columnIndex) {
+            this.column = ConstantPositionTableColumn.of(columnIndex);
+        }
+
+        @Override
+        public TableColumn getColumn() {
+            return column;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Synthetic sheet, written to a file format and read back, so benchmarked sheet is the same as loaded from a file.
+ * <p>
+ * Cell of row {@code r} and column {@code c}: column 0 contains string "row r", other columns contain
+ * numbers and strings in turn. Formula layout replaces every second number by formula. Sparse layout
+ * has every 5th row and every 4th cell only.
+ */
+@State(Scope.Benchmark)
+public class SheetState {
+
+    static final int COLUMNS = 20;
+
+    public enum Size {
+        SMALL(100),
+        MEDIUM(10_000),
+        HUGE(60_000);  // xls format is limited by 65536 rows
+
+        final int rows;
+
+        Size(int rows) {
+            this.rows = rows;
+        }
+    }
+
+    public enum Layout {
+        DENSE, SPARSE, FORMULA
+    }
+
+    public enum Format {
+        XLS(HSSFWorkbook::new), XLSX(XSSFWorkbook::new);
+
+        final Supplier<Workbook> factory;
+
+        Format(Supplier<Workbook> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    public Size size;
+
+    @Param({"DENSE", "SPARSE", "FORMULA"})
+    public Layout layout;
+
+    @Param({"XLS", "XLSX"})
+    public Format format;
+
+    Workbook workbook;
+    Sheet sheet;
+    ExcelSheet reportPage;
+    String lastRowValue;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] file;
+        try (Workbook generated = format.factory.get()) {
+            generate(generated.createSheet("data"));
+            generated.getCreationHelper()
+                    .createFormulaEvaluator()
+                    .evaluateAll();  // cache formula results
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            generated.write(out);
+            file = out.toByteArray();
+        }
+        workbook = WorkbookFactory.create(new ByteArrayInputStream(file));
+        sheet = workbook.getSheetAt(0);
+        reportPage = new ExcelSheet(sheet);
+        lastRowValue = "row " + sheet.getLastRowNum();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        workbook.close();
+    }
+
+    private void generate(Sheet sheet) {
+        boolean isSparse = (layout == Layout.SPARSE);
+        for (int r = 0; r < size.rows; r++) {
+            if (isSparse && r % 5 != 0) continue;
+            Row row = sheet.createRow(r);
+            row.createCell(0).setCellValue("row " + r);
+            for (int c = 1; c < COLUMNS; c++) {
+                if (isSparse && c % 4 != 0) continue;
+                Cell cell = row.createCell(c);
+                if (c % 2 == 1) {
+                    cell.setCellValue(r * 100.0 + c + 0.25);
+                } else if (layout == Layout.FORMULA) {
+                    cell.setCellFormula(new CellReference(r, c - 1).formatAsString() + "*2");
+                } else {
+                    cell.setCellValue("value " + (r * 31 + c) % 1000);
+                }
+            }
+        }
+    }
+}
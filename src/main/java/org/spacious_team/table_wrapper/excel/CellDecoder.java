@@ -0,0 +1,109 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decodes cell value to a type tag and a primitive or string value without wrapper objects, so decoded values
+ * can be stored in arrays and files. Boolean (1 or 0) and error (error code) values are numbers.
+ * Formula cell is decoded as its cached result.
+ */
+final class CellDecoder {
+
+    static final byte BLANK = 0;
+    static final byte STRING = 1;
+    static final byte NUMERIC = 2;
+    static final byte BOOLEAN = 3;
+    static final byte ERROR = 4;
+
+    private CellDecoder() {
+    }
+
+    /**
+     * @return type tag of cell value, formula cell has type of cached result
+     */
+    static byte getType(Cell cell) {
+        switch (ExcelTableHelper.getValueType(cell)) {
+            case STRING:
+                return STRING;
+            case NUMERIC:
+                return NUMERIC;
+            case BOOLEAN:
+                return BOOLEAN;
+            case ERROR:
+                return ERROR;
+            default:
+                return BLANK;
+        }
+    }
+
+    /**
+     * @param type type tag returned by {@link #getType(Cell)}
+     * @return numeric value, 1 or 0 for boolean, error code for error or 0 for other cells
+     */
+    static double getNumber(Cell cell, byte type) {
+        switch (type) {
+            case NUMERIC:
+                return cell.getNumericCellValue();
+            case BOOLEAN:
+                return cell.getBooleanCellValue() ? 1 : 0;
+            case ERROR:
+                return cell.getErrorCellValue();
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * @param type type tag returned by {@link #getType(Cell)}
+     * @return string value or null for not string cell
+     */
+    static @Nullable String getString(Cell cell, byte type) {
+        return (type == STRING) ? cell.getStringCellValue() : null;
+    }
+
+    /**
+     * Sets decoded value to the cell, blank cell is left as is.
+     *
+     * @param string string value, not null for string type
+     */
+    static void setValue(Cell target, byte type, double number, @Nullable String string) {
+        switch (type) {
+            case STRING:
+                target.setCellValue(requireNonNull(string));
+                break;
+            case NUMERIC:
+                target.setCellValue(number);
+                break;
+            case BOOLEAN:
+                target.setCellValue(number != 0);
+                break;
+            case ERROR:
+                target.setCellErrorValue((byte) number);
+                break;
+            default:
+                // blank cell
+        }
+    }
+}
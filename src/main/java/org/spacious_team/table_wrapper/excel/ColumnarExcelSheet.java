@@ -0,0 +1,93 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Report page, which decodes sheet cell values once to compact primitive arrays. Searches and cell value reads
+ * are answered from this snapshot without access to POI cells. Useful if many tables are searched on the same sheet.
+ * Sheet modifications made after object creation are not visible to searches.
+ */
+public class ColumnarExcelSheet extends ExcelSheet {
+
+    private final ColumnarSheetData data;
+
+    public ColumnarExcelSheet(Sheet sheet) {
+        super(sheet);
+        this.data = ColumnarSheetData.of(sheet);
+    }
+
+    @Override
+    public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        return data.find(value, startRow, endRow, startColumn, endColumn);
+    }
+
+    @Override
+    public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                                 Predicate<@Nullable Object> cellValuePredicate) {
+        return data.find(startRow, endRow, startColumn, endColumn, cellValuePredicate);
+    }
+
+    /**
+     * Searches cell arrays for each value, this is faster than single pass over POI sheet.
+     */
+    @Override
+    public Map<@Nullable Object, TableCellAddress> findAll(Collection<?> values,
+                                                           int startRow, int endRow, int startColumn, int endColumn) {
+        Map<@Nullable Object, TableCellAddress> addresses = new HashMap<>();
+        for (@Nullable Object value : values) {
+            addresses.put(value, data.find(value, startRow, endRow, startColumn, endColumn));
+        }
+        return addresses;
+    }
+
+    @Override
+    @Nullable Row getSheetRow(int i) {
+        return data.hasRow(i) ? super.getSheetRow(i) : null;
+    }
+
+    /**
+     * @param rowNum      0-based row index
+     * @param columnIndex 0-based column index
+     * @return cell value (String, Double, Boolean) or null if cell is blank or absent
+     * @throws ArithmeticException if cell contains error
+     */
+    public @Nullable Object getCellValue(int rowNum, int columnIndex) {
+        return data.getValue(rowNum, columnIndex);
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return data.getLastRowNum();
+    }
+
+    @Override
+    int findEmptyRow(int startRow, int endRow) {
+        return data.findEmptyRow(startRow, endRow);
+    }
+}
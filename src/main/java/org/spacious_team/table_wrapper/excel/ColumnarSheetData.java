@@ -0,0 +1,312 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+import static org.spacious_team.table_wrapper.excel.CellDecoder.BLANK;
+import static org.spacious_team.table_wrapper.excel.CellDecoder.BOOLEAN;
+import static org.spacious_team.table_wrapper.excel.CellDecoder.ERROR;
+import static org.spacious_team.table_wrapper.excel.CellDecoder.NUMERIC;
+import static org.spacious_team.table_wrapper.excel.CellDecoder.STRING;
+import static org.spacious_team.table_wrapper.excel.ExcelTableHelper.NUMBER_PRECISION;
+
+/**
+ * Sheet cell values decoded once into primitive arrays. Cells of row {@code i} are stored in array indexes
+ * {@code [rowOffsets[i], rowOffsets[i + 1])} ordered by column, absent row has no cells.
+ */
+final class ColumnarSheetData {
+
+    static final byte FORMULA_ERROR = 5;  // follows CellDecoder type tags
+
+    private final int lastRowNum;
+    private final int[] rowOffsets;
+    private final int[] columns;
+    private final byte[] types;
+    private final double[] numbers;  // numeric value, boolean as 1 or 0, error code
+    private final int[] stringIds;
+    private final String[] strings;
+    private final Map<String, Integer> stringIdsByValue;
+    private final BitSet rows;
+    private final BitSet nonEmptyRows;
+    private final boolean isDate1904;
+
+    static ColumnarSheetData of(Sheet sheet) {
+        return new Builder(sheet).build(sheet);
+    }
+
+    private ColumnarSheetData(Builder builder) {
+        this.lastRowNum = builder.lastRowNum;
+        this.rowOffsets = builder.rowOffsets;
+        this.columns = Arrays.copyOf(builder.columns, builder.size);
+        this.types = Arrays.copyOf(builder.types, builder.size);
+        this.numbers = Arrays.copyOf(builder.numbers, builder.size);
+        this.stringIds = Arrays.copyOf(builder.stringIds, builder.size);
+        this.strings = builder.strings.toArray(new String[0]);
+        this.stringIdsByValue = builder.stringIdsByValue;
+        this.rows = builder.rows;
+        this.nonEmptyRows = builder.nonEmptyRows;
+        this.isDate1904 = builder.isDate1904;
+    }
+
+    int getLastRowNum() {
+        return lastRowNum;
+    }
+
+    boolean hasRow(int rowNum) {
+        return rowNum >= 0 && rows.get(rowNum);
+    }
+
+    /**
+     * @return cell value (String, Double, Boolean) or null if cell is blank or absent
+     * @throws ArithmeticException if cell contains error
+     */
+    @Nullable Object getValue(int rowNum, int columnIndex) {
+        int i = indexOf(rowNum, columnIndex);
+        return (i == -1) ? null : getValue(i);
+    }
+
+    private @Nullable Object getValue(int i) {
+        switch (types[i]) {
+            case STRING:
+                return strings[stringIds[i]];
+            case NUMERIC:
+                return numbers[i];
+            case BOOLEAN:
+                return numbers[i] != 0;
+            case ERROR:
+                throw new ArithmeticException("Cell contains function evaluation error: " +
+                        FormulaError.forInt((byte) numbers[i]));
+            case FORMULA_ERROR:
+                throw new ArithmeticException("Cell does not contain cached function result: " +
+                        FormulaError.forInt((byte) numbers[i]));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return array index of cell or -1 if cell is absent
+     */
+    private int indexOf(int rowNum, int columnIndex) {
+        if (!hasRow(rowNum)) {
+            return -1;
+        }
+        int from = rowOffsets[rowNum];
+        int to = rowOffsets[rowNum + 1];
+        int i = Arrays.binarySearch(columns, from, to, columnIndex);
+        return (i < 0) ? -1 : i;
+    }
+
+    /**
+     * Implements {@link ExcelTableHelper#find(Sheet, Object, int, int, int, int)} contract.
+     */
+    TableCellAddress find(@Nullable Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        return findCell(startRow, endRow, startColumn, endColumn, createMatcher(value));
+    }
+
+    /**
+     * Implements {@link ExcelTableHelper#find(Sheet, int, int, int, int, Predicate)} contract,
+     * cell value is passed to predicate.
+     */
+    TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
+                          Predicate<@Nullable Object> cellValuePredicate) {
+        return findCell(startRow, endRow, startColumn, endColumn, i -> cellValuePredicate.test(getValue(i)));
+    }
+
+    private TableCellAddress findCell(int startRow, int endRow, int startColumn, int endColumn,
+                                      IndexPredicate matcher) {
+        @Nullable ExcelMetricsListener listener = ExcelMetrics.getListener();
+        long start = (listener == null) ? 0 : System.nanoTime();
+        startRow = Math.max(0, startRow);
+        endRow = Math.min(endRow, lastRowNum + 1); // endRow is exclusive
+        int scannedCells = 0;
+        TableCellAddress address = NOT_FOUND;
+        search:
+        for (int rowNum = startRow; rowNum < endRow; rowNum++) {
+            int to = rowOffsets[rowNum + 1];
+            int i = Arrays.binarySearch(columns, rowOffsets[rowNum], to, startColumn);  // row cells are sorted by column
+            for (i = (i < 0) ? (-i - 1) : i; i < to && columns[i] < endColumn; i++) {
+                scannedCells++;
+                if (matcher.test(i)) {
+                    address = TableCellAddress.of(rowNum, columns[i]);
+                    break search;
+                }
+            }
+        }
+        if (listener != null) {
+            int scannedRows = (address == NOT_FOUND) ? Math.max(0, endRow - startRow) : (address.getRow() - startRow + 1);
+            listener.onFind(scannedRows, scannedCells, address != NOT_FOUND, System.nanoTime() - start);
+        }
+        return address;
+    }
+
+    /**
+     * Implements {@link ExcelSheet#findEmptyRow(int, int)} contract.
+     */
+    int findEmptyRow(int startRow, int endRow) {
+        int rowNum = nonEmptyRows.nextClearBit(Math.max(0, startRow));
+        return (rowNum <= lastRowNum && rowNum < endRow) ? rowNum : -1;
+    }
+
+    /**
+     * Converts expected value once, so cells are compared without boxing. Compatible with
+     * {@link ExcelTableHelper#find(Sheet, Object, int, int, int, int)} equality rules.
+     */
+    private IndexPredicate createMatcher(@Nullable Object expected) {
+        if (expected == null) {
+            return i -> types[i] == BLANK;
+        } else if (expected instanceof CharSequence) {
+            String string = expected.toString();
+            int stringId = stringIdsByValue.getOrDefault(string, -1);
+            boolean matchesBlank = string.isEmpty();
+            return i -> (types[i] == STRING && stringIds[i] == stringId) || (matchesBlank && types[i] == BLANK);
+        } else if (expected instanceof Number) {
+            double number = ((Number) expected).doubleValue();
+            return i -> types[i] == NUMERIC && Math.abs(numbers[i] - number) < NUMBER_PRECISION;
+        } else if (expected instanceof Boolean) {
+            double bool = ((Boolean) expected) ? 1 : 0;
+            return i -> types[i] == BOOLEAN && numbers[i] == bool;
+        } else if (expected instanceof Instant) {
+            ZoneId zone = ExcelDates.getUserZoneId();
+            return i -> isDate(i) && expected.equals(ExcelDates.toInstant(numbers[i], isDate1904, zone));
+        } else if (expected instanceof Date) {
+            ZoneId zone = ExcelDates.getUserZoneId();
+            return i -> isDate(i) && expected.equals(Date.from(ExcelDates.toInstant(numbers[i], isDate1904, zone)));
+        } else if (expected instanceof LocalDateTime) {
+            return i -> isDate(i) && expected.equals(ExcelDates.toLocalDateTime(numbers[i], isDate1904));
+        } else if (expected instanceof LocalDate) {
+            return i -> isDate(i) && expected.equals(ExcelDates.toLocalDateTime(numbers[i], isDate1904).toLocalDate());
+        }
+        return i -> false;
+    }
+
+    private boolean isDate(int i) {
+        return types[i] == NUMERIC && ExcelDates.isValid(numbers[i]);
+    }
+
+    @FunctionalInterface
+    private interface IndexPredicate {
+        boolean test(int i);
+    }
+
+    private static final class Builder {
+        private final int lastRowNum;
+        private final int[] rowOffsets;
+        private int[] columns;
+        private byte[] types;
+        private double[] numbers;
+        private int[] stringIds;
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> stringIdsByValue = new HashMap<>();
+        private final BitSet rows = new BitSet();
+        private final BitSet nonEmptyRows = new BitSet();
+        private final boolean isDate1904;
+        private int size = 0;
+
+        private Builder(Sheet sheet) {
+            this.lastRowNum = Math.max(-1, sheet.getLastRowNum());
+            this.rowOffsets = new int[lastRowNum + 2];
+            int capacity = Math.max(16, sheet.getPhysicalNumberOfRows() * 8);
+            this.columns = new int[capacity];
+            this.types = new byte[capacity];
+            this.numbers = new double[capacity];
+            this.stringIds = new int[capacity];
+            this.isDate1904 = sheet.getWorkbook().isDate1904();
+        }
+
+        private ColumnarSheetData build(Sheet sheet) {
+            for (int rowNum = 0; rowNum <= lastRowNum; rowNum++) {
+                rowOffsets[rowNum] = size;
+                @Nullable Row row = sheet.getRow(rowNum);
+                if (row != null) {
+                    rows.set(rowNum);
+                    addRow(row);
+                }
+            }
+            rowOffsets[lastRowNum + 1] = size;
+            return new ColumnarSheetData(this);
+        }
+
+        private void addRow(Row row) {
+            for (@Nullable Cell cell : row) {
+                if (cell != null) {
+                    ensureCapacity();
+                    columns[size] = cell.getColumnIndex();
+                    boolean isEmpty = addValue(cell);
+                    if (!isEmpty) {
+                        nonEmptyRows.set(row.getRowNum());
+                    }
+                    size++;
+                }
+            }
+        }
+
+        /**
+         * @return true if cell is blank or contains empty string
+         */
+        private boolean addValue(Cell cell) {
+            byte type = CellDecoder.getType(cell);
+            boolean isFormulaError = (type == ERROR && cell.getCellType() == CellType.FORMULA);
+            types[size] = isFormulaError ? FORMULA_ERROR : type;
+            numbers[size] = CellDecoder.getNumber(cell, type);
+            if (type == STRING) {
+                String string = cell.getStringCellValue();
+                stringIds[size] = stringIdsByValue.computeIfAbsent(string, this::addString);
+                return string.isEmpty();
+            }
+            return type == BLANK;
+        }
+
+        private int addString(String string) {
+            strings.add(string);
+            return strings.size() - 1;
+        }
+
+        private void ensureCapacity() {
+            if (size == columns.length) {
+                int capacity = columns.length * 2;
+                columns = Arrays.copyOf(columns, capacity);
+                types = Arrays.copyOf(types, capacity);
+                numbers = Arrays.copyOf(numbers, capacity);
+                stringIds = Arrays.copyOf(stringIds, capacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Mutable reference to a POI cell, which is rebound to other cells by {@link ReusableExcelTableCell}.
+ */
+public final class ExcelCellCursor {
+
+    private @Nullable Cell cell;
+
+    ExcelCellCursor() {
+    }
+
+    static ExcelCellCursor of(Cell cell) {
+        ExcelCellCursor cursor = new ExcelCellCursor();
+        cursor.set(cell);
+        return cursor;
+    }
+
+    void set(Cell cell) {
+        this.cell = cell;
+    }
+
+    /**
+     * @throws NullPointerException if cursor is not bound to a cell
+     */
+    Cell get() {
+        @SuppressWarnings({"nullness", "ConstantConditions"})
+        Cell cell = requireNonNull(this.cell, "Cursor is not bound to a cell");
+        return cell;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(cell);
+    }
+}
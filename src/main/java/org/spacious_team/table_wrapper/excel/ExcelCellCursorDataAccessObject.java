@@ -0,0 +1,87 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.ss.usermodel.Cell;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.CellDataAccessObject;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Reads values of a cell, referenced by {@link ExcelCellCursor}, by {@link ExcelCellDataAccessObject}.
+ */
+@RequiredArgsConstructor(staticName = "of")
+public class ExcelCellCursorDataAccessObject implements CellDataAccessObject<ExcelCellCursor, ExcelTableRow> {
+    public static final ExcelCellCursorDataAccessObject INSTANCE = of(ExcelCellDataAccessObject.INSTANCE);
+
+    @Getter(AccessLevel.PACKAGE)
+    private final ExcelCellDataAccessObject delegate;
+
+    @Override
+    public @Nullable ExcelCellCursor getCell(ExcelTableRow row, Integer cellIndex) {
+        @Nullable Cell cell = delegate.getCell(row, cellIndex);
+        return (cell == null) ? null : ExcelCellCursor.of(cell);
+    }
+
+    @Override
+    public @Nullable Object getValue(ExcelCellCursor cell) {
+        return delegate.getValue(cell.get());
+    }
+
+    @Override
+    public int getIntValue(ExcelCellCursor cell) {
+        return delegate.getIntValue(cell.get());
+    }
+
+    @Override
+    public long getLongValue(ExcelCellCursor cell) {
+        return delegate.getLongValue(cell.get());
+    }
+
+    @Override
+    public double getDoubleValue(ExcelCellCursor cell) {
+        return delegate.getDoubleValue(cell.get());
+    }
+
+    @Override
+    public BigDecimal getBigDecimalValue(ExcelCellCursor cell) {
+        return delegate.getBigDecimalValue(cell.get());
+    }
+
+    @Override
+    public String getStringValue(ExcelCellCursor cell) {
+        return delegate.getStringValue(cell.get());
+    }
+
+    @Override
+    public Instant getInstantValue(ExcelCellCursor cell) {
+        return delegate.getInstantValue(cell.get());
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTimeValue(ExcelCellCursor cell) {
+        return delegate.getLocalDateTimeValue(cell.get());
+    }
+}
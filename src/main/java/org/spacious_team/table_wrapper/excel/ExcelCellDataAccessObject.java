@@ -19,17 +19,54 @@
 package org.spacious_team.table_wrapper.excel;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spacious_team.table_wrapper.api.CellDataAccessObject;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 
 import static java.util.Objects.requireNonNull;
 
 public class ExcelCellDataAccessObject implements CellDataAccessObject<Cell, ExcelTableRow> {
     public static final ExcelCellDataAccessObject INSTANCE = new ExcelCellDataAccessObject();
+    // Powers of ten are exact doubles. For numbers below 10^7 decimal step 10^-8 is greater than the double ulp,
+    // so no more than one decimal of the scale is rounded to the number
+    private static final double[] POWERS_OF_TEN = {1, 10, 100, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8};
+    private static final BigDecimal[] INTEGRAL_BIG_DECIMALS = new BigDecimal[1024];
+
+    private final @Nullable ZoneId zoneId;
+
+    static {
+        for (int i = 0; i < INTEGRAL_BIG_DECIMALS.length; i++) {
+            INTEGRAL_BIG_DECIMALS[i] = BigDecimal.valueOf(i * 10L, 1);  // the same as BigDecimal.valueOf(i + 0.0)
+        }
+    }
+
+    /**
+     * Dates are converted to {@link Instant} in POI user time zone
+     * ({@link org.apache.poi.util.LocaleUtil#getUserTimeZone()}), which is JVM default time zone by default.
+     */
+    public ExcelCellDataAccessObject() {
+        this.zoneId = null;
+    }
+
+    /**
+     * @param zoneId time zone of sheet dates, used for {@link Instant} values
+     */
+    protected ExcelCellDataAccessObject(ZoneId zoneId) {
+        this.zoneId = zoneId;
+    }
+
+    /**
+     * @param zoneId time zone of sheet dates, used for {@link Instant} values
+     */
+    public static ExcelCellDataAccessObject of(ZoneId zoneId) {
+        return new ExcelCellDataAccessObject(zoneId);
+    }
 
     @Override
     public @Nullable Cell getCell(ExcelTableRow row, Integer cellIndex) {
@@ -44,13 +81,37 @@ public class ExcelCellDataAccessObject implements CellDataAccessObject<Cell, Exc
     @Override
     public BigDecimal getBigDecimalValue(Cell cell) {
         double number = getDoubleValue(cell);
-        return (Double.compare(number, 0D) == 0) ? BigDecimal.ZERO : BigDecimal.valueOf(number);
+        return (Double.compare(number, 0D) == 0) ? BigDecimal.ZERO : toBigDecimal(number);
+    }
+
+    /**
+     * Returns the same result as {@code BigDecimal.valueOf(number)}. Numbers with few decimal places
+     * are converted without formatting number to string, small integral numbers are cached.
+     */
+    static BigDecimal toBigDecimal(double number) {
+        double abs = Math.abs(number);
+        if (abs >= 1e-3 && abs < 1e7) { // Double.toString() uses plain notation
+            long integral = (long) number;
+            if (integral == number && integral >= 0 && integral < INTEGRAL_BIG_DECIMALS.length) {
+                return INTEGRAL_BIG_DECIMALS[(int) integral];
+            }
+            for (int scale = 1; scale < POWERS_OF_TEN.length; scale++) {
+                long unscaled = Math.round(number * POWERS_OF_TEN[scale]);
+                if (unscaled / POWERS_OF_TEN[scale] == number) {  // the shortest decimal, which is rounded to number
+                    return BigDecimal.valueOf(unscaled, scale);
+                }
+            }
+        }
+        return BigDecimal.valueOf(number);
     }
 
     @Override
     public String getStringValue(Cell cell) {
         @SuppressWarnings({"nullness", "ConstantConditions"})
         Object value = requireNonNull(getValue(cell), "Not a string");
+        if (value instanceof Double) {
+            return toString((double) value);
+        }
         String strValue = value.toString();
         if ((value instanceof Number) && strValue.endsWith(".0")) {
             return strValue.substring(0, strValue.length() - 2);
@@ -58,13 +119,63 @@ public class ExcelCellDataAccessObject implements CellDataAccessObject<Cell, Exc
         return strValue;
     }
 
+    /**
+     * Returns the same result as {@code Double.toString(number)} with stripped ".0" suffix.
+     * Integral numbers are formatted without floating point formatting.
+     */
+    static String toString(double number) {
+        long integral = (long) number;
+        if (integral == number && Math.abs(number) < 1e7) { // Double.toString() uses plain notation below 10^7
+            return (integral == 0 && Double.doubleToRawLongBits(number) != 0) ? "-0" : Long.toString(integral);
+        }
+        return Double.toString(number);  // non integral or in scientific notation, hasn't ".0" suffix
+    }
+
+    /**
+     * Numeric cell value is converted without {@link java.util.Date} and {@link java.util.Calendar} objects,
+     * the result is the same as {@code cell.getDateCellValue().toInstant()}.
+     */
     @Override
     public Instant getInstantValue(Cell cell) {
+        if (ExcelTableHelper.getValueType(cell) == CellType.NUMERIC) {
+            double value = cell.getNumericCellValue();
+            if (ExcelDates.isValid(value)) {
+                ZoneId zone = (zoneId == null) ? ExcelDates.getUserZoneId() : zoneId;
+                return ExcelDates.toInstant(value, isDate1904(cell), zone);
+            }
+        }
+        onDateConversionFallback(cell);
+        if (zoneId != null) {
+            return ZonedDateTime.ofLocal(cell.getLocalDateTimeCellValue(), zoneId, null)
+                    .withLaterOffsetAtOverlap()
+                    .toInstant();
+        }
         return cell.getDateCellValue().toInstant();
     }
 
+    /**
+     * Numeric cell value is converted by arithmetic, the result is the same as {@code cell.getLocalDateTimeCellValue()}.
+     */
     @Override
     public LocalDateTime getLocalDateTimeValue(Cell cell) {
+        if (ExcelTableHelper.getValueType(cell) == CellType.NUMERIC) {
+            double value = cell.getNumericCellValue();
+            if (ExcelDates.isValid(value)) {
+                return ExcelDates.toLocalDateTime(value, isDate1904(cell));
+            }
+        }
+        onDateConversionFallback(cell);
         return cell.getLocalDateTimeCellValue();
     }
+
+    private static boolean isDate1904(Cell cell) {
+        return cell.getSheet().getWorkbook().isDate1904();
+    }
+
+    private static void onDateConversionFallback(Cell cell) {
+        @Nullable ExcelMetricsListener listener = ExcelMetrics.getListener();
+        if (listener != null) {
+            listener.onDateConversionFallback(cell);
+        }
+    }
 }
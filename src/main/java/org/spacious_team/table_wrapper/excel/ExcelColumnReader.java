@@ -0,0 +1,166 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.checkerframework.checker.nullness.qual.EnsuresNonNullIf;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.BitSet;
+
+import static org.spacious_team.table_wrapper.excel.ExcelTableHelper.getValueType;
+
+/**
+ * Reads sheet column values to arrays in a single loop over sheet rows. Numeric cells are read without boxing
+ * and without row and cell wrapper objects, other cells are converted by {@link ExcelCellDataAccessObject}
+ * the same way as {@link ExcelTableCell} does. Usage example
+ * <pre>{@code
+ * BitSet nulls = new BitSet();
+ * double[] prices = ExcelColumnReader.of(reportPage).readDoubles(priceColumn, firstDataRow, lastDataRow + 1, nulls);
+ * }</pre>
+ * Array element {@code i} is the value of row {@code startRow + i}. For numbers and dates absent cell, blank cell
+ * and cell containing empty string are null values, their array elements are zero and their indexes are set
+ * in {@code nulls} bitmap. Strings of absent and blank cells are null, empty string is read as is.
+ */
+@RequiredArgsConstructor(staticName = "of")
+public class ExcelColumnReader {
+
+    private final ExcelSheet sheet;
+    private final ExcelCellDataAccessObject dao;
+
+    public static ExcelColumnReader of(ExcelSheet sheet) {
+        return of(sheet, ExcelCellDataAccessObject.INSTANCE);
+    }
+
+    /**
+     * @param columnIndex 0-based column index
+     * @param startRow    first row index
+     * @param endRow      last row index exclusive, can handle values greater than real rows count
+     * @param nulls       bitmap, cleared and filled with indexes of null values
+     */
+    public double[] readDoubles(int columnIndex, int startRow, int endRow, BitSet nulls) {
+        startRow = Math.max(0, startRow);
+        double[] values = new double[getSize(startRow, endRow)];
+        nulls.clear();
+        for (int i = 0; i < values.length; i++) {
+            @Nullable Cell cell = getCell(startRow + i, columnIndex);
+            if (isNull(cell)) {
+                nulls.set(i);
+            } else if (getValueType(cell) == CellType.NUMERIC) {
+                values[i] = cell.getNumericCellValue();
+            } else {
+                values[i] = dao.getDoubleValue(cell);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * @param columnIndex 0-based column index
+     * @param startRow    first row index
+     * @param endRow      last row index exclusive, can handle values greater than real rows count
+     * @param nulls       bitmap, cleared and filled with indexes of null values
+     */
+    public long[] readLongs(int columnIndex, int startRow, int endRow, BitSet nulls) {
+        startRow = Math.max(0, startRow);
+        long[] values = new long[getSize(startRow, endRow)];
+        nulls.clear();
+        for (int i = 0; i < values.length; i++) {
+            @Nullable Cell cell = getCell(startRow + i, columnIndex);
+            if (isNull(cell)) {
+                nulls.set(i);
+            } else if (getValueType(cell) == CellType.NUMERIC) {
+                values[i] = (long) cell.getNumericCellValue();  // the same as Number.longValue()
+            } else {
+                values[i] = dao.getLongValue(cell);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads dates as days since 1970-01-01.
+     *
+     * @param columnIndex 0-based column index
+     * @param startRow    first row index
+     * @param endRow      last row index exclusive, can handle values greater than real rows count
+     * @param nulls       bitmap, cleared and filled with indexes of null values
+     */
+    public int[] readEpochDays(int columnIndex, int startRow, int endRow, BitSet nulls) {
+        startRow = Math.max(0, startRow);
+        int[] values = new int[getSize(startRow, endRow)];
+        nulls.clear();
+        for (int i = 0; i < values.length; i++) {
+            @Nullable Cell cell = getCell(startRow + i, columnIndex);
+            if (isNull(cell)) {
+                nulls.set(i);
+            } else {
+                values[i] = (int) dao.getLocalDateTimeValue(cell).toLocalDate().toEpochDay();
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads cell values converted to string.
+     *
+     * @param columnIndex 0-based column index
+     * @param startRow    first row index
+     * @param endRow      last row index exclusive, can handle values greater than real rows count
+     * @return values, array element is null for absent and blank cells, empty string for cell containing empty string
+     */
+    public @Nullable String[] readStrings(int columnIndex, int startRow, int endRow) {
+        startRow = Math.max(0, startRow);
+        @Nullable String[] values = new String[getSize(startRow, endRow)];
+        for (int i = 0; i < values.length; i++) {
+            @Nullable Cell cell = getCell(startRow + i, columnIndex);
+            if (cell != null) {
+                CellType type = getValueType(cell);
+                if (type == CellType.STRING) {
+                    values[i] = cell.getStringCellValue();
+                } else if (type != CellType.BLANK) {
+                    values[i] = dao.getStringValue(cell);
+                }
+            }
+        }
+        return values;
+    }
+
+    private int getSize(int startRow, int endRow) {
+        long end = Math.min(endRow, sheet.getLastRowNum() + 1L);
+        return (int) Math.max(0, end - startRow);
+    }
+
+    private @Nullable Cell getCell(int rowNum, int columnIndex) {
+        @Nullable Row row = sheet.getSheetRow(rowNum);
+        return (row == null) ? null : row.getCell(columnIndex);
+    }
+
+    @EnsuresNonNullIf(expression = "#1", result = false)
+    private static boolean isNull(@Nullable Cell cell) {
+        if (cell == null) {
+            return true;
+        }
+        CellType type = getValueType(cell);
+        return type == CellType.BLANK || (type == CellType.STRING && cell.getStringCellValue().isEmpty());
+    }
+}
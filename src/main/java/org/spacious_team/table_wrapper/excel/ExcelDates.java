@@ -0,0 +1,141 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.LocaleUtil;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneRules;
+import java.util.TimeZone;
+
+/**
+ * Converts Excel date serial numbers by arithmetic, without {@link java.util.Calendar} and {@link java.util.Date}
+ * objects. Results are the same as POI {@link DateUtil} ones. In the 1900 date system serial 60 is the non-existent
+ * 1900-02-29 (bug kept for Lotus 1-2-3 compatibility), it is converted to 1900-03-01, earlier serials are
+ * shifted by one day. In the 1904 date system serial 0 is 1904-01-01.
+ */
+final class ExcelDates {
+
+    private static final long DAY_MILLIS = 86_400_000;
+    private static final long EPOCH_1900 = 25_569;  // 1970-01-01 serial number
+    private static final long EPOCH_1904 = 24_107;
+    private static final long EPOCH_DAY_1901 = LocalDate.of(1901, 1, 1).toEpochDay();
+    private static final BigDecimal BIG_DAY_MILLIS = BigDecimal.valueOf(DAY_MILLIS);
+    private static final BigDecimal HALF = BigDecimal.valueOf(5, 1);
+    private static UserZone userZone = new UserZone(TimeZone.getTimeZone("UTC"));
+
+    private ExcelDates() {
+    }
+
+    /**
+     * @return the same as {@link DateUtil#isValidExcelDate(double)}
+     */
+    static boolean isValid(double serial) {
+        return serial > -Double.MIN_VALUE;
+    }
+
+    /**
+     * @param serial valid date serial number
+     * @return the same as {@link DateUtil#getLocalDateTime(double, boolean)}, time is rounded to milliseconds
+     */
+    static LocalDateTime toLocalDateTime(double serial, boolean isDate1904) {
+        int wholeDays = (int) serial;
+        return toLocalDateTime(wholeDays, roundMillisOfDay(serial - wholeDays), isDate1904);
+    }
+
+    /**
+     * @param serial valid date serial number
+     * @param zone   time zone of the date
+     * @return the same as {@link DateUtil#getJavaDate(double, boolean, TimeZone)}, including rounding and
+     * overlap resolution to the later offset
+     */
+    static Instant toInstant(double serial, boolean isDate1904, ZoneId zone) {
+        int wholeDays = (int) Math.floor(serial);
+        long millisOfDay = (long) ((serial - wholeDays) * DAY_MILLIS + 0.5);  // the same rounding as DateUtil does
+        LocalDateTime dateTime = toLocalDateTime(wholeDays, millisOfDay, isDate1904);
+        ZoneRules rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            return dateTime.toInstant(rules.getOffset(dateTime));
+        } else if (dateTime.toLocalDate().toEpochDay() < EPOCH_DAY_1901) {
+            // java.util.TimeZone has no local mean time offsets, which java.time uses for earlier dates
+            return DateUtil.getJavaDate(serial, isDate1904, TimeZone.getTimeZone(zone)).toInstant();
+        }
+        return ZonedDateTime.ofLocal(dateTime, zone, null)
+                .withLaterOffsetAtOverlap()  // the same as Calendar does
+                .toInstant();
+    }
+
+    private static LocalDateTime toLocalDateTime(int wholeDays, long millisOfDay, boolean isDate1904) {
+        long epochDay = toEpochDay(wholeDays, isDate1904) + millisOfDay / DAY_MILLIS;  // rounded up to the next day
+        LocalTime time = LocalTime.ofNanoOfDay((millisOfDay % DAY_MILLIS) * 1_000_000);
+        return LocalDateTime.of(LocalDate.ofEpochDay(epochDay), time);
+    }
+
+    private static long toEpochDay(int wholeDays, boolean isDate1904) {
+        if (isDate1904) {
+            return wholeDays - EPOCH_1904;
+        }
+        return (wholeDays < 61) ? (wholeDays - EPOCH_1900 + 1) : (wholeDays - EPOCH_1900);
+    }
+
+    /**
+     * @return {@code floor(fraction * DAY_MILLIS + 0.5)} computed exactly, the same as DateUtil computes by BigDecimal
+     */
+    private static long roundMillisOfDay(double fraction) {
+        double millis = Math.fma(fraction, DAY_MILLIS, 0.5);
+        double floor = Math.floor(millis);
+        if (millis == floor && new BigDecimal(fraction)
+                .multiply(BIG_DAY_MILLIS)
+                .add(HALF)
+                .compareTo(BigDecimal.valueOf(millis)) < 0) {
+            return (long) floor - 1;  // exact value is below the integer, fma() rounded it up
+        }
+        return (long) floor;
+    }
+
+    /**
+     * @return time zone used by POI for Excel dates of the current thread
+     */
+    static ZoneId getUserZoneId() {
+        TimeZone timeZone = LocaleUtil.getUserTimeZone();
+        UserZone zone = userZone;
+        if (!zone.id.equals(timeZone.getID())) {
+            zone = new UserZone(timeZone);
+            userZone = zone;  // racy cache of immutable object
+        }
+        return zone.zoneId;
+    }
+
+    private static final class UserZone {
+        private final String id;
+        private final ZoneId zoneId;
+
+        private UserZone(TimeZone timeZone) {
+            this.id = timeZone.getID();
+            this.zoneId = timeZone.toZoneId();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+
+import java.util.Collection;
+
+/**
+ * Receives events of sheet reading and searching. Register implementation by {@link ExcelMetrics#setListener},
+ * for example to update application counters and timers or to commit JFR events. Methods are called synchronously
+ * from hot paths, possibly by many threads at once, so implementation should be thread safe and cheap.
+ */
+public interface ExcelMetricsListener {
+
+    /**
+     * Called after each search. Search by value index reports zero scanned rows and cells, {@link ColumnarExcelSheet}
+     * reports rows and cells of its columnar data. {@link ExcelSheet#findAll(Collection)} reports a single event
+     * for all values if sheet is scanned or an event for each value otherwise.
+     *
+     * @param scannedRows   count of requested sheet rows
+     * @param scannedCells  count of cells compared with searching value
+     * @param isFound       true if searching value is found
+     * @param durationNanos search duration
+     */
+    default void onFind(int scannedRows, int scannedCells, boolean isFound, long durationNanos) {
+    }
+
+    /**
+     * Called when {@link ExcelSheet#getRow(int)} creates row object, cached rows are not created.
+     */
+    default void onRowCreated(int rowNum) {
+    }
+
+    /**
+     * Called on {@link ExcelSheet#getRow(int)} call if row cache is enabled.
+     *
+     * @param isHit true if row is returned from cache
+     */
+    default void onRowCacheAccess(boolean isHit) {
+    }
+
+    /**
+     * Called when a row is read from a streaming sheet source or from a temporary file to the buffer sheet.
+     */
+    default void onRowRead(int rowNum) {
+    }
+
+    /**
+     * Called when streaming sheet restarts reading from the beginning to return an evicted row.
+     */
+    default void onSheetRestart() {
+    }
+
+    /**
+     * Called when cell value can't be read because the cell contains formula evaluation error.
+     */
+    default void onErrorCell(Cell cell) {
+    }
+
+    /**
+     * Called when date cell value is converted by POI instead of the fast path, for example for not numeric cell.
+     */
+    default void onDateConversionFallback(Cell cell) {
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Reusable block of decoded cell values of consecutive sheet rows and a column range, filled by
+ * {@link ExcelSheet#readRows(int, int, int, int, java.util.function.Consumer)}. Values are stored in row-major
+ * arrays: value of block row {@code r} and block column {@code c} has index {@code r * getColumnCount() + c}.
+ * Each cell has a type tag, numeric, boolean (1 or 0) and error (error code) values are stored in the numbers array,
+ * strings are stored in the strings array. Formula cell is stored as its cached result, absent cell is blank.
+ */
+public final class ExcelRowBlock {
+
+    public static final byte BLANK = CellDecoder.BLANK;
+    public static final byte STRING = CellDecoder.STRING;
+    public static final byte NUMERIC = CellDecoder.NUMERIC;
+    public static final byte BOOLEAN = CellDecoder.BOOLEAN;
+    public static final byte ERROR = CellDecoder.ERROR;
+    static final int MAX_COLUMNS = 16_384;  // xlsx limit
+    private static final int MAX_ROWS = 256;
+    private static final int MAX_CELLS = 65_536;
+
+    private final int firstColumn;
+    private final int columnCount;
+    private final int maxRowCount;
+    private final byte[] types;
+    private final double[] numbers;
+    private final @Nullable String[] strings;
+    private final boolean[] hasRows;
+    private int firstRowNum = 0;
+    private int rowCount = 0;
+
+    /**
+     * @param startColumn first column index
+     * @param endColumn   last column index exclusive, is limited by max columns count of xlsx sheet
+     */
+    ExcelRowBlock(int startColumn, int endColumn) {
+        this.firstColumn = Math.max(0, startColumn);
+        this.columnCount = Math.max(0, Math.min(endColumn, MAX_COLUMNS) - firstColumn);
+        this.maxRowCount = Math.max(1, Math.min(MAX_ROWS, MAX_CELLS / Math.max(1, columnCount)));
+        int capacity = maxRowCount * columnCount;
+        this.types = new byte[capacity];
+        this.numbers = new double[capacity];
+        this.strings = new String[capacity];
+        this.hasRows = new boolean[maxRowCount];
+    }
+
+    /**
+     * Reads rows {@code firstRowNum .. firstRowNum + rowCount - 1}, row count should not exceed max row count.
+     */
+    void read(ExcelSheet sheet, int firstRowNum, int rowCount) {
+        Arrays.fill(types, 0, this.rowCount * columnCount, BLANK);
+        Arrays.fill(numbers, 0, this.rowCount * columnCount, 0);
+        Arrays.fill(strings, 0, this.rowCount * columnCount, null);
+        this.firstRowNum = firstRowNum;
+        this.rowCount = rowCount;
+        int endColumn = firstColumn + columnCount;
+        for (int r = 0; r < rowCount; r++) {
+            @Nullable Row row = sheet.getSheetRow(firstRowNum + r);
+            hasRows[r] = (row != null);
+            if (row == null) {
+                continue;
+            }
+            int lastColumn = Math.min(endColumn, row.getLastCellNum());  // getLastCellNum() returns last column PLUS ONE
+            for (int column = Math.max(firstColumn, row.getFirstCellNum()); column < lastColumn; column++) {
+                @Nullable Cell cell = row.getCell(column);
+                if (cell != null) {
+                    setValue(r * columnCount + column - firstColumn, cell);
+                }
+            }
+        }
+    }
+
+    private void setValue(int i, Cell cell) {
+        byte type = CellDecoder.getType(cell);
+        types[i] = type;
+        numbers[i] = CellDecoder.getNumber(cell, type);
+        strings[i] = CellDecoder.getString(cell, type);
+    }
+
+    /**
+     * @return max rows count of the block
+     */
+    int getMaxRowCount() {
+        return maxRowCount;
+    }
+
+    /**
+     * @return sheet row index of the first block row
+     */
+    public int getFirstRowNum() {
+        return firstRowNum;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return sheet column index of the first block column
+     */
+    public int getFirstColumn() {
+        return firstColumn;
+    }
+
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * @param row block row index
+     * @return false if sheet row is absent
+     */
+    public boolean hasRow(int row) {
+        return hasRows[row];
+    }
+
+    /**
+     * @param row    block row index
+     * @param column block column index
+     * @return one of {@link #BLANK}, {@link #STRING}, {@link #NUMERIC}, {@link #BOOLEAN} and {@link #ERROR}
+     */
+    public byte getType(int row, int column) {
+        return types[row * columnCount + column];
+    }
+
+    /**
+     * @param row    block row index
+     * @param column block column index
+     * @return numeric value, 1 or 0 for boolean value, error code for error value or 0 for other cells
+     */
+    public double getNumber(int row, int column) {
+        return numbers[row * columnCount + column];
+    }
+
+    /**
+     * @param row    block row index
+     * @param column block column index
+     * @return string value or null for other cells
+     */
+    public @Nullable String getString(int row, int column) {
+        return strings[row * columnCount + column];
+    }
+
+    /**
+     * @return type tags of block cells in row-major order, array is reused for the next block
+     * and can be longer than cells count
+     */
+    public byte[] getTypes() {
+        return types;
+    }
+
+    /**
+     * @return numbers of block cells in row-major order, array is reused for the next block
+     * and can be longer than cells count
+     */
+    public double[] getNumbers() {
+        return numbers;
+    }
+
+    /**
+     * @return strings of block cells in row-major order, array is reused for the next block
+     * and can be longer than cells count
+     */
+    public @Nullable String[] getStrings() {
+        return strings;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Spliterator over sheet rows range, absent rows are skipped. Range is split by row index,
+ * so parts are processed in parallel if sheet rows can be read concurrently.
+ */
+final class ExcelRowSpliterator implements Spliterator<ExcelTableRow> {
+
+    private static final int MIN_SPLIT_SIZE = 16;
+
+    private final IntFunction<@Nullable Row> rows;
+    private final boolean isSplittable;
+    private int rowNum;
+    private final int endRow;
+
+    /**
+     * @param rows         returns sheet row by index or null if row is absent
+     * @param startRow     first row index
+     * @param endRow       last row index exclusive
+     * @param isSplittable true if rows can be read concurrently
+     */
+    ExcelRowSpliterator(IntFunction<@Nullable Row> rows, int startRow, int endRow, boolean isSplittable) {
+        this.rows = rows;
+        this.isSplittable = isSplittable;
+        this.rowNum = Math.max(0, startRow);
+        this.endRow = Math.max(rowNum, endRow);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ExcelTableRow> action) {
+        while (rowNum < endRow) {
+            @Nullable Row row = rows.apply(rowNum++);
+            if (row != null) {
+                action.accept(ExcelTableRow.of(row));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super ExcelTableRow> action) {
+        for (; rowNum < endRow; rowNum++) {
+            @Nullable Row row = rows.apply(rowNum);
+            if (row != null) {
+                action.accept(ExcelTableRow.of(row));
+            }
+        }
+    }
+
+    @Override
+    public @Nullable Spliterator<ExcelTableRow> trySplit() {
+        int size = endRow - rowNum;
+        if (!isSplittable || size < 2 * MIN_SPLIT_SIZE) {
+            return null;
+        }
+        int from = rowNum;
+        rowNum += size / 2;
+        return new ExcelRowSpliterator(rows, from, rowNum, true);
+    }
+
+    /**
+     * @return remaining rows range size, absent rows are included
+     */
+    @Override
+    public long estimateSize() {
+        return endRow - rowNum;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
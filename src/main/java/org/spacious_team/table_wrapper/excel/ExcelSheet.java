@@ -23,36 +23,302 @@ import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spacious_team.table_wrapper.api.AbstractReportPage;
 import org.spacious_team.table_wrapper.api.EmptyRowPredicate;
 import org.spacious_team.table_wrapper.api.ReportPageRow;
 import org.spacious_team.table_wrapper.api.TableCellAddress;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @RequiredArgsConstructor
 public class ExcelSheet extends AbstractReportPage<ExcelTableRow> {
 
     @Getter
     private final Sheet sheet;
+    private boolean isValueIndexEnabled = false;
+    private @Nullable SheetValueIndex valueIndex;
+    private boolean isEmptyRowCacheEnabled = false;
+    private final BitSet checkedRows = new BitSet();  // rows checked by findEmptyRow()
+    private final BitSet nonEmptyRows = new BitSet();
+    private @Nullable RowCache rowCache;
+    private @Nullable MergedRegionIndex mergedRegionIndex;
+
+    /**
+     * Enables search by value index. Index is built by the first search, so a lot of
+     * {@link #find(Object, int, int, int, int)} and {@link #findByPrefix(String, int, int, int, int)}
+     * calls do not scan sheet. Call {@link #invalidateCaches()} if sheet is modified after index is built.
+     */
+    public void enableValueIndex() {
+        isValueIndexEnabled = true;
+    }
+
+    /**
+     * Enables cache of empty row search results. Rows are checked once by {@link #findRow(int, int, Predicate)}
+     * with {@link EmptyRowPredicate}, subsequent searches skip rows known to be non-empty.
+     * Call {@link #invalidateCaches()} if sheet is modified. Cache is not thread safe.
+     */
+    public void enableEmptyRowCache() {
+        isEmptyRowCacheEnabled = true;
+    }
+
+    /**
+     * Enables cache of the last used rows. Cached {@link #getRow(int)} result is returned for repeated calls,
+     * row cell objects are created once and cell values are decoded once (see {@link MemoizingExcelTableCell}).
+     * Useful if tables are accessed many times. Call {@link #invalidateCaches()} if sheet is modified.
+     * Cache is not thread safe.
+     *
+     * @param maxRows max rows count kept in cache
+     */
+    public void enableRowCache(int maxRows) {
+        rowCache = new RowCache(maxRows);
+    }
+
+    /**
+     * @return count of {@link #getRow(int)} calls, answered by row cache
+     * @see #enableRowCache(int)
+     */
+    public long getRowCacheHitCount() {
+        @Nullable RowCache cache = rowCache;
+        return (cache == null) ? 0 : cache.getHitCount();
+    }
+
+    /**
+     * @return count of {@link #getRow(int)} calls, not answered by row cache
+     * @see #enableRowCache(int)
+     */
+    public long getRowCacheMissCount() {
+        @Nullable RowCache cache = rowCache;
+        return (cache == null) ? 0 : cache.getMissCount();
+    }
+
+    /**
+     * Drops data, cached from sheet. Should be called if sheet is modified after search.
+     */
+    public void invalidateCaches() {
+        valueIndex = null;
+        mergedRegionIndex = null;
+        checkedRows.clear();
+        nonEmptyRows.clear();
+        @Nullable RowCache cache = rowCache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
 
     @Override
     public TableCellAddress find(Object value, int startRow, int endRow, int startColumn, int endColumn) {
-        return ExcelTableHelper.find(sheet, value, startRow, endRow, startColumn, endColumn);
+        if (isValueIndexEnabled && SheetValueIndex.isIndexed(value)) {
+            return getValueIndex().find(value, startRow, endRow, startColumn, endColumn);
+        }
+        return ExcelTableHelper.find(this::getSheetRow, getLastRowNum(), value,
+                startRow, endRow, startColumn, endColumn);
+    }
+
+    /**
+     * Finds first cell of each value. Values are compared the same way as by {@link #find(Object)},
+     * but the sheet is scanned once for all values.
+     *
+     * @return map of each value to its cell address or {@link TableCellAddress#NOT_FOUND}
+     */
+    public Map<@Nullable Object, TableCellAddress> findAll(Collection<?> values) {
+        return findAll(values, 0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param startRow    search rows start from this
+     * @param endRow      search rows excluding this, can handle values greater than real rows count
+     * @param startColumn search columns start from this
+     * @param endColumn   search columns excluding this, can handle values greater than real columns count
+     * @return map of each value to its cell address or {@link TableCellAddress#NOT_FOUND}
+     * @see #findAll(Collection)
+     */
+    public Map<@Nullable Object, TableCellAddress> findAll(Collection<?> values,
+                                                           int startRow, int endRow, int startColumn, int endColumn) {
+        if (isValueIndexEnabled && values.stream().allMatch(SheetValueIndex::isIndexed)) {
+            SheetValueIndex index = getValueIndex();
+            Map<@Nullable Object, TableCellAddress> addresses = new HashMap<>();
+            for (@Nullable Object value : values) {
+                addresses.put(value, index.find(value, startRow, endRow, startColumn, endColumn));
+            }
+            return addresses;
+        }
+        return ExcelTableHelper.findAll(this::getSheetRow, getLastRowNum(), values,
+                startRow, endRow, startColumn, endColumn);
     }
 
     @Override
     public TableCellAddress find(int startRow, int endRow, int startColumn, int endColumn,
                                  Predicate<@Nullable Object> cellValuePredicate) {
-        return ExcelTableHelper.find(sheet, startRow, endRow, startColumn, endColumn,
+        return ExcelTableHelper.find(this::getSheetRow, getLastRowNum(), startRow, endRow, startColumn, endColumn,
                 cell -> cellValuePredicate.test(ExcelTableHelper.getValue(cell)));
     }
 
+    @Override
+    public TableCellAddress findByPrefix(@Nullable String prefix,
+                                         int startRow, int endRow, int startColumn, int endColumn) {
+        if (isValueIndexEnabled && prefix != null && !prefix.isEmpty()) {
+            return getValueIndex().findByPrefix(prefix, startRow, endRow, startColumn, endColumn);
+        }
+        return super.findByPrefix(prefix, startRow, endRow, startColumn, endColumn);
+    }
+
+    private SheetValueIndex getValueIndex() {
+        @Nullable SheetValueIndex index = valueIndex;
+        if (index == null) {
+            index = SheetValueIndex.of(this::getSheetRow, getLastRowNum());
+            valueIndex = index;
+        }
+        return index;
+    }
+
     @Override
     public @Nullable ExcelTableRow getRow(int i) {
-        Row row = sheet.getRow(i);
-        return (row == null) ? null : ExcelTableRow.of(row);
+        @Nullable RowCache cache = rowCache;
+        if (cache != null) {
+            return cache.get(i, this::createMemoizingRow);
+        }
+        @Nullable Row row = getSheetRow(i);
+        if (row == null) {
+            return null;
+        }
+        onRowCreated(i);
+        return ExcelTableRow.of(row);
+    }
+
+    private @Nullable ExcelTableRow createMemoizingRow(int i) {
+        @Nullable Row row = getSheetRow(i);
+        if (row == null) {
+            return null;
+        }
+        onRowCreated(i);
+        return ExcelTableRow.memoizing(row);
+    }
+
+    private static void onRowCreated(int i) {
+        @Nullable ExcelMetricsListener listener = ExcelMetrics.getListener();
+        if (listener != null) {
+            listener.onRowCreated(i);
+        }
+    }
+
+    /**
+     * @return sheet row by index or null if row is absent
+     */
+    @Nullable Row getSheetRow(int i) {
+        return sheet.getRow(i);
+    }
+
+    /**
+     * @return true if {@link #getSheetRow(int)} can be called concurrently for not modified sheet
+     */
+    boolean isConcurrentRowAccessSupported() {
+        return true;
+    }
+
+    /**
+     * @return stream of sheet rows, absent rows are skipped
+     * @see #stream(int, int)
+     */
+    public Stream<ExcelTableRow> stream() {
+        return stream(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns stream of sheet rows, absent rows are skipped. Parallel stream splits rows range by row index,
+     * so CPU-bound row processing uses many cores. Sheet should not be modified while stream is processed.
+     * Rows are not taken from row cache (see {@link #enableRowCache(int)}).
+     *
+     * @param startRow first row index
+     * @param endRow   last row index exclusive, can handle values greater than real rows count
+     */
+    public Stream<ExcelTableRow> stream(int startRow, int endRow) {
+        return StreamSupport.stream(spliterator(startRow, endRow), false);
+    }
+
+    /**
+     * @param startRow first row index
+     * @param endRow   last row index exclusive, can handle values greater than real rows count
+     * @return spliterator of sheet rows, absent rows are skipped
+     * @see #stream(int, int)
+     */
+    public Spliterator<ExcelTableRow> spliterator(int startRow, int endRow) {
+        int end = (int) Math.min(endRow, getLastRowNum() + 1L);
+        return new ExcelRowSpliterator(this::getSheetRow, startRow, end, isConcurrentRowAccessSupported());
+    }
+
+    /**
+     * Returns merged region containing the cell without scanning all merged regions. Merged regions are indexed by the first call,
+     * call {@link #invalidateCaches()} if merged regions are changed. Streaming sheets don't read merged regions.
+     *
+     * @param rowNum      0-based row index
+     * @param columnIndex 0-based column index
+     * @return merged region or null if the cell isn't merged
+     */
+    public @Nullable CellRangeAddress getMergedRegion(int rowNum, int columnIndex) {
+        @Nullable MergedRegionIndex index = mergedRegionIndex;
+        if (index == null) {
+            index = MergedRegionIndex.of(sheet.getMergedRegions());
+            mergedRegionIndex = index;
+        }
+        return index.find(rowNum, columnIndex);
+    }
+
+    /**
+     * Returns cell, which holds value of the cell: the first cell of the merged region containing the cell
+     * or the cell itself if it isn't merged. Useful for reading multi level table headers.
+     *
+     * @param rowNum      0-based row index
+     * @param columnIndex 0-based column index
+     * @return cell or null if value holding cell is absent
+     * @see #getMergedRegion(int, int)
+     */
+    public @Nullable ExcelTableCell getValueCell(int rowNum, int columnIndex) {
+        @Nullable CellRangeAddress region = getMergedRegion(rowNum, columnIndex);
+        if (region != null) {
+            rowNum = region.getFirstRow();
+            columnIndex = region.getFirstColumn();
+        }
+        @Nullable Row row = getSheetRow(rowNum);
+        @Nullable Cell cell = (row == null) ? null : row.getCell(columnIndex);
+        return (cell == null) ? null : ExcelTableCell.of(cell);
+    }
+
+    /**
+     * Reads rows by blocks of decoded cell values without row and cell wrapper objects. Usage example
+     * <pre>{@code
+     * reportPage.readRows(firstDataRow, rowCount, 0, columnCount, block -> {
+     *     double[] numbers = block.getNumbers();
+     *     byte[] types = block.getTypes();
+     *     for (int i = 0, n = block.getRowCount() * block.getColumnCount(); i < n; i++) {
+     *         if (types[i] == ExcelRowBlock.NUMERIC) sum += numbers[i];
+     *     }
+     * });
+     * }</pre>
+     *
+     * @param startRow    first row index
+     * @param count       rows count, can handle values greater than real rows count
+     * @param startColumn first column index
+     * @param endColumn   last column index exclusive
+     * @param sink        consumer of blocks, the same block object is reused for all blocks
+     */
+    public void readRows(int startRow, int count, int startColumn, int endColumn, Consumer<ExcelRowBlock> sink) {
+        startRow = Math.max(0, startRow);
+        int endRow = (int) Math.min(startRow + (long) count, getLastRowNum() + 1L);
+        ExcelRowBlock block = new ExcelRowBlock(startColumn, endColumn);
+        for (int rowNum = startRow; rowNum < endRow; rowNum += block.getMaxRowCount()) {
+            block.read(this, rowNum, Math.min(block.getMaxRowCount(), endRow - rowNum));
+            sink.accept(block);
+        }
     }
 
     @Override
@@ -72,28 +338,55 @@ public class ExcelSheet extends AbstractReportPage<ExcelTableRow> {
      * @param startRow search rows start from this
      * @param endRow   search rows excluding this, can handle values greater than real rows count
      * @return the index of the first empty row, or {@code -1} if no empty row is found
+     * @see #enableEmptyRowCache()
      */
     int findEmptyRow(int startRow, int endRow) {
-        int lastRowNum = Math.max(0, startRow);
-        for (int n = getLastRowNum(); lastRowNum <= n && lastRowNum < endRow; lastRowNum++) {
-            Row row = sheet.getRow(lastRowNum);
-            if (row == null || row.getLastCellNum() == -1) {
-                return lastRowNum;  // all row cells are blank
-            }
-            boolean isEmptyRow = true;
-            for (@Nullable Cell cell : row) {
-                @Nullable Object value;
-                if (!(cell == null
-                        || ((value = ExcelCellDataAccessObject.INSTANCE.getValue(cell)) == null)
-                        || ((value instanceof String) && (value.toString().isEmpty())))) {
-                    isEmptyRow = false;
-                    break;
-                }
+        if (isEmptyRowCacheEnabled) {
+            return findEmptyRowCached(startRow, endRow);
+        }
+        int rowNum = Math.max(0, startRow);
+        for (int n = getLastRowNum(); rowNum <= n && rowNum < endRow; rowNum++) {
+            if (isEmptyRow(getSheetRow(rowNum))) {
+                return rowNum;
             }
-            if (isEmptyRow) {
-                return lastRowNum;  // all row cells are blank
+        }
+        return -1;
+    }
+
+    /**
+     * Rows are checked once, the result is cached for subsequent calls.
+     */
+    private int findEmptyRowCached(int startRow, int endRow) {
+        int rowNum = Math.max(0, startRow);
+        for (int n = getLastRowNum(); rowNum <= n && rowNum < endRow; ) {
+            if (nonEmptyRows.get(rowNum)) {
+                rowNum = nonEmptyRows.nextClearBit(rowNum);
+            } else if (checkedRows.get(rowNum)) {
+                return rowNum;
+            } else if (isEmptyRow(getSheetRow(rowNum))) {
+                checkedRows.set(rowNum);
+                return rowNum;
+            } else {
+                nonEmptyRows.set(rowNum);  // set before checkedRows, checked row is empty if not in nonEmptyRows
+                checkedRows.set(rowNum);
+                rowNum++;
             }
         }
         return -1;
     }
+
+    private static boolean isEmptyRow(@Nullable Row row) {
+        if (row == null || row.getLastCellNum() == -1) {
+            return true;  // all row cells are blank
+        }
+        for (@Nullable Cell cell : row) {
+            @Nullable Object value;
+            if (!(cell == null
+                    || ((value = ExcelCellDataAccessObject.INSTANCE.getValue(cell)) == null)
+                    || ((value instanceof String) && (value.toString().isEmpty())))) {
+                return false;
+            }
+        }
+        return true;  // all row cells are blank
+    }
 }
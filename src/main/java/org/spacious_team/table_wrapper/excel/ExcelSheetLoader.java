@@ -0,0 +1,105 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package org.spacious_team.table_wrapper.excel;
+
+import lombok.NoArgsConstructor;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Loads one sheet of xlsx or xls file without parsing other sheets. Unlike loading the whole workbook
+ * by {@link org.apache.poi.ss.usermodel.WorkbookFactory} only the sheet xml of xlsx file or the sheet records
+ * of xls file are read, the shared strings table is read for both. Usage example
+ * <pre>{@code
+ * ExcelSheet reportPage = ExcelSheetLoader.load(Path.of("1.xlsx"), "Sheet 1");
+ * }</pre>
+ * All sheet rows are kept in memory of {@link XSSFWorkbook}, rows can be accessed in any order, the sheet doesn't
+ * hold files or other resources to be closed. Cell styles are not loaded,
+ * formula cell is loaded as its cached result. Use {@link XlsxStreamingSheet}, {@link XlsStreamingSheet}
+ * or {@link FileBackedExcelSheet} if the sheet is too large to be kept in memory.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class ExcelSheetLoader {
+
+    /**
+     * @param file       xlsx or xls file
+     * @param sheetIndex 0-based sheet index
+     */
+    public static ExcelSheet load(Path file, int sheetIndex) throws IOException {
+        return load(file, sheetIndex, null);
+    }
+
+    /**
+     * @param file xlsx or xls file
+     */
+    public static ExcelSheet load(Path file, String sheetName) throws IOException {
+        return load(file, -1, sheetName);
+    }
+
+    private static ExcelSheet load(Path file, int sheetIndex, @Nullable String sheetName) throws IOException {
+        ExcelStreamingSheet source = open(file, sheetIndex, sheetName);
+        try {
+            return new ExcelSheet(copy(source.readAllRows()));
+        } finally {
+            ExcelStreamingSheet.closeBufferSheet(source.getSheet());  // source is closed by readAllRows()
+        }
+    }
+
+    /**
+     * Copies rows of the buffer sheet to the sheet of in-memory workbook, which has no temporary files to release.
+     */
+    private static Sheet copy(Sheet buffer) {
+        @SuppressWarnings("resource")
+        XSSFWorkbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet();
+        ExcelStreamingSheet.setDate1904(sheet, buffer.getWorkbook().isDate1904());
+        for (Row bufferRow : buffer) {
+            Row row = sheet.createRow(bufferRow.getRowNum());
+            for (Cell bufferCell : bufferRow) {
+                byte type = CellDecoder.getType(bufferCell);
+                CellDecoder.setValue(row.createCell(bufferCell.getColumnIndex()), type,
+                        CellDecoder.getNumber(bufferCell, type), CellDecoder.getString(bufferCell, type));
+            }
+        }
+        return sheet;
+    }
+
+    private static ExcelStreamingSheet open(Path file, int sheetIndex, @Nullable String sheetName)
+            throws IOException {
+        FileMagic fileMagic = FileMagic.valueOf(file.toFile());
+        switch (fileMagic) {
+            case OOXML:
+                return XlsxStreamingSheet.open(file, sheetIndex, sheetName, Integer.MAX_VALUE);
+            case OLE2:
+                return XlsStreamingSheet.open(file, sheetIndex, sheetName, Integer.MAX_VALUE);
+            default:
+                throw new IOException("Not an xlsx or xls file " + file + ": " + fileMagic);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbook;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Report page which reads sheet rows on demand and keeps in memory only the last {@code rowWindowSize} rows.
+ * Rows are stored in a buffer sheet, so {@link ExcelTableRow}, {@link ExcelTableCell} and {@link ExcelTable}
+ * work the same way as for {@link ExcelSheet}.
+ * <p>
+ * Rows are expected to be accessed in ascending order. Access to a row, which was already evicted from the window,
+ * restarts sheet reading from the beginning. Row objects returned before eviction stay valid.
+ * {@link #getSheet()} returns the buffer sheet.
+ */
+public abstract class ExcelStreamingSheet extends ExcelSheet implements Closeable {
+
+    public static final int DEFAULT_ROW_WINDOW_SIZE = 1000;
+
+    private final int rowWindowSize;
+    private int firstBufferedRowNum = 0;  // rows before this one are evicted
+    private int lastReadRowNum = -1;
+    private boolean isEndOfSheet = false;
+
+    ExcelStreamingSheet(int rowWindowSize) {
+        super(createBufferSheet());
+        if (rowWindowSize < 1) {
+            throw new IllegalArgumentException("Row window size should be positive: " + rowWindowSize);
+        }
+        this.rowWindowSize = rowWindowSize;
+    }
+
+    static Sheet createBufferSheet() {
+        // window size -1 disables auto flushing of rows to disk, eviction is done by removeRow()
+        @SuppressWarnings("resource")
+        SXSSFWorkbook buffer = new SXSSFWorkbook(new XSSFWorkbook(), -1, false, false);
+        return buffer.createSheet();
+    }
+
+    /**
+     * Reads next sheet row, the row should be created by {@link #createRow(int)}.
+     *
+     * @return false if end of sheet is reached
+     */
+    abstract boolean readNextRow() throws IOException;
+
+    /**
+     * Restarts sheet reading, next {@link #readNextRow()} call should read the first sheet row.
+     */
+    abstract void rewind() throws IOException;
+
+    /**
+     * Releases sheet source resources.
+     */
+    abstract void closeSource() throws IOException;
+
+    /**
+     * @return index of the last sheet row, the value is known before the whole sheet is read
+     */
+    @Override
+    public abstract int getLastRowNum();
+
+    /**
+     * Creates buffered row, evicts the eldest row if the window is full.
+     */
+    Row createRow(int rowNum) {
+        Sheet buffer = getSheet();
+        while (buffer.getPhysicalNumberOfRows() >= rowWindowSize) {
+            Row eldest = buffer.getRow(buffer.getFirstRowNum());
+            firstBufferedRowNum = eldest.getRowNum() + 1;
+            buffer.removeRow(eldest);
+        }
+        lastReadRowNum = rowNum;
+        @Nullable ExcelMetricsListener listener = ExcelMetrics.getListener();
+        if (listener != null) {
+            listener.onRowRead(rowNum);
+        }
+        return buffer.createRow(rowNum);
+    }
+
+    /**
+     * Sets date system of the buffer sheet, should be called by subclass if sheet uses 1904 date system.
+     */
+    void setDate1904(boolean isDate1904) {
+        setDate1904(getSheet(), isDate1904);
+    }
+
+    /**
+     * @param sheet sheet of {@link SXSSFWorkbook} or {@link XSSFWorkbook}
+     */
+    static void setDate1904(Sheet sheet, boolean isDate1904) {
+        Workbook sheetWorkbook = sheet.getWorkbook();
+        XSSFWorkbook xssfWorkbook = (sheetWorkbook instanceof SXSSFWorkbook) ?
+                ((SXSSFWorkbook) sheetWorkbook).getXSSFWorkbook() :
+                (XSSFWorkbook) sheetWorkbook;
+        CTWorkbook workbook = xssfWorkbook.getCTWorkbook();
+        (workbook.isSetWorkbookPr() ? workbook.getWorkbookPr() : workbook.addNewWorkbookPr())
+                .setDate1904(isDate1904);
+    }
+
+    int getLastReadRowNum() {
+        return lastReadRowNum;
+    }
+
+    boolean isEndOfSheet() {
+        return isEndOfSheet;
+    }
+
+    @Override
+    @Nullable Row getSheetRow(int i) {
+        if (i < 0) {
+            return null;
+        }
+        try {
+            if (i < firstBufferedRowNum) {
+                restart();
+            }
+            while (!isEndOfSheet && lastReadRowNum < i) {
+                isEndOfSheet = !readNextRow();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read row " + i, e);
+        }
+        return getSheet().getRow(i);
+    }
+
+    /**
+     * Reads all rows to the buffer sheet and releases sheet source resources. The buffer sheet stays open,
+     * rows are not evicted if the sheet is created with row window size greater than sheet rows count.
+     *
+     * @return buffer sheet
+     */
+    Sheet readAllRows() throws IOException {
+        try {
+            while (!isEndOfSheet) {
+                isEndOfSheet = !readNextRow();
+            }
+        } finally {
+            closeSource();
+        }
+        return getSheet();
+    }
+
+    /**
+     * @return false, rows are read to the shared buffer sheet
+     */
+    @Override
+    boolean isConcurrentRowAccessSupported() {
+        return false;
+    }
+
+    /**
+     * Clears the buffer sheet and restarts sheet reading, next {@link #readNextRow()} call reads the first sheet row.
+     */
+    void restart() throws IOException {
+        @Nullable ExcelMetricsListener listener = ExcelMetrics.getListener();
+        if (listener != null) {
+            listener.onSheetRestart();
+        }
+        Sheet buffer = getSheet();
+        while (buffer.getPhysicalNumberOfRows() > 0) {
+            buffer.removeRow(buffer.getRow(buffer.getFirstRowNum()));
+        }
+        firstBufferedRowNum = 0;
+        lastReadRowNum = -1;
+        isEndOfSheet = false;
+        rewind();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            closeSource();
+        } finally {
+            closeBufferSheet(getSheet());
+        }
+    }
+
+    static void closeBufferSheet(Sheet bufferSheet) throws IOException {
+        SXSSFWorkbook buffer = (SXSSFWorkbook) bufferSheet.getWorkbook();
+        buffer.dispose();
+        buffer.close();
+    }
+}
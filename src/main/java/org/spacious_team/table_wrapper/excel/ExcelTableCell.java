@@ -46,6 +46,13 @@ public class ExcelTableCell extends AbstractTableCell<Cell, ExcelCellDataAccessO
         return getCell().getColumnIndex();
     }
 
+    /**
+     * @return cell which caches decoded values, see {@link MemoizingExcelTableCell}
+     */
+    public MemoizingExcelTableCell memoizing() {
+        return MemoizingExcelTableCell.of(getCell(), getCellDataAccessObject());
+    }
+
     @Override
     protected ExcelTableCell createWithCellDataAccessObject(ExcelCellDataAccessObject dao) {
         return new ExcelTableCell(getCell(), dao);
@@ -21,6 +21,7 @@ package org.spacious_team.table_wrapper.excel;
 import lombok.NoArgsConstructor;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.ss.usermodel.FormulaError;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
@@ -31,8 +32,13 @@ import org.spacious_team.table_wrapper.api.TableCellAddress;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
 
 import static lombok.AccessLevel.PRIVATE;
@@ -41,6 +47,9 @@ import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
 @NoArgsConstructor(access = PRIVATE)
 final class ExcelTableHelper {
 
+    static final double NUMBER_PRECISION = 1e-6;
+    private static final double HOUR = 1.0 / 24;  // in days
+
     /**
      * @param value       searching value
      * @param startRow    search rows start from this
@@ -52,13 +61,53 @@ final class ExcelTableHelper {
     static TableCellAddress find(Sheet sheet, @Nullable Object value,
                                  int startRow, int endRow,
                                  int startColumn, int endColumn) {
-        @Nullable Object expected;
-        if (value instanceof Number) {
-            expected = ((Number) value).doubleValue();  // excel store Numbers as doubles
-        } else {
-            expected = value;
+        return find(sheet::getRow, sheet.getLastRowNum(), value, startRow, endRow, startColumn, endColumn);
+    }
+
+    /**
+     * @param rows        returns sheet row by index or null if row is absent
+     * @param lastRowNum  index of the last sheet row
+     * @param value       searching value
+     * @param startRow    search rows start from this
+     * @param endRow      search rows excluding this, can handle values greater than real rows count
+     * @param startColumn search columns start from this
+     * @param endColumn   search columns excluding this, can handle values greater than real columns count
+     * @return table cell address or {@link TableCellAddress#NOT_FOUND}
+     */
+    static TableCellAddress find(IntFunction<@Nullable Row> rows, int lastRowNum, @Nullable Object value,
+                                 int startRow, int endRow,
+                                 int startColumn, int endColumn) {
+        return find(rows, lastRowNum, startRow, endRow, startColumn, endColumn, createMatcher(value));
+    }
+
+    /**
+     * Finds values in one pass over the sheet.
+     *
+     * @param rows        returns sheet row by index or null if row is absent
+     * @param lastRowNum  index of the last sheet row
+     * @param values      searching values
+     * @param startRow    search rows start from this
+     * @param endRow      search rows excluding this, can handle values greater than real rows count
+     * @param startColumn search columns start from this
+     * @param endColumn   search columns excluding this, can handle values greater than real columns count
+     * @return map of each value to table cell address or {@link TableCellAddress#NOT_FOUND}
+     */
+    static Map<@Nullable Object, TableCellAddress> findAll(IntFunction<@Nullable Row> rows, int lastRowNum,
+                                                           Collection<?> values,
+                                                           int startRow, int endRow,
+                                                           int startColumn, int endColumn) {
+        Map<@Nullable Object, TableCellAddress> addresses = new HashMap<>();
+        for (@Nullable Object value : values) {
+            addresses.put(value, NOT_FOUND);
+        }
+        MultiValueMatcher matcher = new MultiValueMatcher(values);
+        if (!matcher.isEmpty()) {
+            find(rows, lastRowNum, startRow, endRow, startColumn, endColumn, cell -> {
+                matcher.match(cell, value -> addresses.put(value, getAddress(cell)));
+                return matcher.isEmpty();  // stops search
+            });
         }
-        return find(sheet, startRow, endRow, startColumn, endColumn, cell -> equals(cell, expected));
+        return addresses;
     }
 
     /**
@@ -71,26 +120,101 @@ final class ExcelTableHelper {
     static TableCellAddress find(Sheet sheet, int startRow, int endRow,
                                  int startColumn, int endColumn,
                                  Predicate<Cell> predicate) {
+        return find(sheet::getRow, sheet.getLastRowNum(), startRow, endRow, startColumn, endColumn, predicate);
+    }
+
+    /**
+     * @param rows        returns sheet row by index or null if row is absent
+     * @param lastRowNum  index of the last sheet row
+     * @param startRow    search rows start from this
+     * @param endRow      search rows excluding this, can handle values greater than real rows count
+     * @param startColumn search columns start from this
+     * @param endColumn   search columns excluding this, can handle values greater than real columns count
+     * @return table cell address or {@link TableCellAddress#NOT_FOUND}
+     */
+    static TableCellAddress find(IntFunction<@Nullable Row> rows, int lastRowNum,
+                                 int startRow, int endRow,
+                                 int startColumn, int endColumn,
+                                 Predicate<Cell> predicate) {
+        @Nullable ExcelMetricsListener listener = ExcelMetrics.getListener();
+        if (listener != null) {
+            return findMeasured(listener, rows, lastRowNum, startRow, endRow, startColumn, endColumn, predicate);
+        }
+        return findInRows(rows, lastRowNum, startRow, endRow, startColumn, endColumn, predicate);
+    }
+
+    private static TableCellAddress findMeasured(ExcelMetricsListener listener,
+                                                 IntFunction<@Nullable Row> rows, int lastRowNum,
+                                                 int startRow, int endRow,
+                                                 int startColumn, int endColumn,
+                                                 Predicate<Cell> predicate) {
+        long start = System.nanoTime();
+        ScanCounter counter = new ScanCounter(rows, predicate);
+        TableCellAddress address = findInRows(counter, lastRowNum, startRow, endRow, startColumn, endColumn, counter);
+        listener.onFind(counter.rowCount, counter.cellCount, address != NOT_FOUND, System.nanoTime() - start);
+        return address;
+    }
+
+    private static TableCellAddress findInRows(IntFunction<@Nullable Row> rows, int lastRowNum,
+                                               int startRow, int endRow,
+                                               int startColumn, int endColumn,
+                                               Predicate<Cell> predicate) {
         startRow = Math.max(0, startRow);
-        endRow = Math.min(endRow, sheet.getLastRowNum() + 1); // endRow is exclusive
+        endRow = Math.min(endRow, lastRowNum + 1); // endRow is exclusive
         for (int rowNum = startRow; rowNum < endRow; rowNum++) {
-            Row row = sheet.getRow(rowNum);
+            @Nullable Row row = rows.apply(rowNum);
             if (row == null) continue;
-            for (@Nullable Cell cell : row) {
-                if (cell != null) {
-                    int column = cell.getColumnIndex();
-                    if (startColumn <= column && column < endColumn) {
-                        if (predicate.test(cell)) {
-                            CellAddress address = cell.getAddress();
-                            return TableCellAddress.of(address.getRow(), address.getColumn());
-                        }
-                    }
-                }
+            @Nullable Cell cell = isNarrowRange(row, startColumn, endColumn) ?
+                    findInColumnRange(row, startColumn, endColumn, predicate) :
+                    findInRow(row, startColumn, endColumn, predicate);
+            if (cell != null) {
+                return getAddress(cell);
             }
         }
         return NOT_FOUND;
     }
 
+    private static TableCellAddress getAddress(Cell cell) {
+        CellAddress address = cell.getAddress();
+        return TableCellAddress.of(address.getRow(), address.getColumn());
+    }
+
+    /**
+     * Row width is used instead of {@link Row#getPhysicalNumberOfCells()}, which iterates cells of HSSF row.
+     *
+     * @return true if getting cells by column index is cheaper than iterating all row cells
+     */
+    private static boolean isNarrowRange(Row row, int startColumn, int endColumn) {
+        int firstCellNum = row.getFirstCellNum();
+        int lastCellNum = row.getLastCellNum();  // last column PLUS ONE
+        long width = (long) Math.min(endColumn, lastCellNum) - Math.max(startColumn, firstCellNum);
+        return width < (lastCellNum - firstCellNum) / 2;
+    }
+
+    private static @Nullable Cell findInColumnRange(Row row, int startColumn, int endColumn,
+                                                    Predicate<Cell> predicate) {
+        int lastColumn = Math.min(endColumn, row.getLastCellNum());  // getLastCellNum() returns last column PLUS ONE
+        for (int column = Math.max(startColumn, row.getFirstCellNum()); column < lastColumn; column++) {
+            @Nullable Cell cell = row.getCell(column);
+            if (cell != null && predicate.test(cell)) {
+                return cell;
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable Cell findInRow(Row row, int startColumn, int endColumn, Predicate<Cell> predicate) {
+        for (@Nullable Cell cell : row) {
+            if (cell != null) {
+                int column = cell.getColumnIndex();
+                if (startColumn <= column && column < endColumn && predicate.test(cell)) {
+                    return cell;
+                }
+            }
+        }
+        return null;
+    }
+
     static @Nullable Object getValue(Cell cell) {
         switch (cell.getCellType()) {
             case STRING:
@@ -102,6 +226,7 @@ final class ExcelTableHelper {
             case FORMULA:
                 return getCachedFormulaValue(cell);
             case ERROR:
+                onErrorCell(cell);
                 throw new ArithmeticException("Cell contains function evaluation error: " +
                         FormulaError.forInt(cell.getErrorCellValue()));
             case BLANK:
@@ -121,6 +246,7 @@ final class ExcelTableHelper {
             case STRING:
                 return cell.getStringCellValue();
             case ERROR:
+                onErrorCell(cell);
                 throw new ArithmeticException("Cell does not contain cached function result: " +
                         FormulaError.forInt(cell.getErrorCellValue()));
             default:
@@ -128,46 +254,172 @@ final class ExcelTableHelper {
         }
     }
 
-    private static boolean equals(Cell cell, @Nullable Object expected) {
-        return equals(cell, cell.getCellType(), expected);
-    }
-
-    private static boolean equals(Cell cell, CellType cellType, @Nullable Object expected) {
-        try {
-            switch (cellType) {
-                case BLANK:
-                    return (expected == null) || Objects.equals(expected, "");
-                case STRING:
-                    return (expected instanceof CharSequence) &&
-                            Objects.equals(cell.getStringCellValue(), String.valueOf(expected));
-                case NUMERIC:
-                    if (expected instanceof Number) {
-                        return Math.abs((cell.getNumericCellValue() - ((Number) expected).doubleValue())) < 1e-6;
-                    } else if (expected instanceof Instant) {
-                        Instant instant = cell.getDateCellValue()
-                                .toInstant();
-                        return Objects.equals(expected, instant);
-                    } else if (expected instanceof Date) {
-                        Date date = cell.getDateCellValue();
-                        return Objects.equals(expected, date);
-                    } else if (expected instanceof LocalDateTime) {
-                        LocalDateTime localDateTime = cell.getLocalDateTimeCellValue();
-                        return Objects.equals(expected, localDateTime);
-                    } else if (expected instanceof LocalDate) {
-                        LocalDate localDate = cell.getLocalDateTimeCellValue()
-                                .toLocalDate();
-                        return Objects.equals(expected, localDate);
-                    }
+    /**
+     * Converts expected value once, so cells are compared without expected value type checks.
+     */
+    static Predicate<Cell> createMatcher(@Nullable Object expected) {
+        if (expected == null) {
+            return cell -> getValueType(cell) == CellType.BLANK;
+        } else if (expected instanceof CharSequence) {
+            String string = expected.toString();
+            boolean matchesBlank = Objects.equals(expected, "");
+            return cell -> {
+                CellType cellType = getValueType(cell);
+                return (cellType == CellType.STRING) ?
+                        string.equals(cell.getStringCellValue()) :
+                        (matchesBlank && cellType == CellType.BLANK);
+            };
+        } else if (expected instanceof Number) {
+            double number = ((Number) expected).doubleValue();  // excel store Numbers as doubles
+            return cell -> getValueType(cell) == CellType.NUMERIC &&
+                    Math.abs(cell.getNumericCellValue() - number) < NUMBER_PRECISION;
+        } else if (expected instanceof Boolean) {
+            boolean bool = (Boolean) expected;
+            return cell -> getValueType(cell) == CellType.BOOLEAN && cell.getBooleanCellValue() == bool;
+        } else if (expected instanceof Instant) {
+            Date date = Date.from((Instant) expected);
+            ZoneId zone = ExcelDates.getUserZoneId();
+            return new DateMatcher(1, 1) {
+                @Override
+                double getExcelDate(boolean isDate1904) {
+                    return DateUtil.getExcelDate(date, isDate1904);
+                }
+
+                @Override
+                boolean matches(double value, boolean isDate1904) {
+                    return expected.equals(ExcelDates.toInstant(value, isDate1904, zone));
+                }
+            };
+        } else if (expected instanceof Date) {
+            ZoneId zone = ExcelDates.getUserZoneId();
+            return new DateMatcher(1, 1) {
+                @Override
+                double getExcelDate(boolean isDate1904) {
+                    return DateUtil.getExcelDate((Date) expected, isDate1904);
+                }
+
+                @Override
+                boolean matches(double value, boolean isDate1904) {
+                    return expected.equals(Date.from(ExcelDates.toInstant(value, isDate1904, zone)));
+                }
+            };
+        } else if (expected instanceof LocalDateTime) {
+            return new DateMatcher(HOUR, HOUR) {
+                @Override
+                double getExcelDate(boolean isDate1904) {
+                    return DateUtil.getExcelDate((LocalDateTime) expected, isDate1904);
+                }
+
+                @Override
+                boolean matches(double value, boolean isDate1904) {
+                    return expected.equals(ExcelDates.toLocalDateTime(value, isDate1904));
+                }
+            };
+        } else if (expected instanceof LocalDate) {
+            return new DateMatcher(HOUR, 1 + HOUR) {
+                @Override
+                double getExcelDate(boolean isDate1904) {
+                    return DateUtil.getExcelDate(((LocalDate) expected).atStartOfDay(), isDate1904);
+                }
+
+                @Override
+                boolean matches(double value, boolean isDate1904) {
+                    return expected.equals(ExcelDates.toLocalDateTime(value, isDate1904).toLocalDate());
+                }
+            };
+        }
+        return cell -> false;
+    }
+
+    private static void onErrorCell(Cell cell) {
+        @Nullable ExcelMetricsListener listener = ExcelMetrics.getListener();
+        if (listener != null) {
+            listener.onErrorCell(cell);
+        }
+    }
+
+    /**
+     * @return cell type or cached formula result type for formula cell
+     */
+    static CellType getValueType(Cell cell) {
+        CellType cellType = cell.getCellType();
+        return (cellType == CellType.FORMULA) ? cell.getCachedFormulaResultType() : cellType;
+    }
+
+    /**
+     * Converts expected date to Excel date once and compares cell dates only for cells with near numeric value.
+     * Window is wide enough to tolerate time zone transitions and rounding. Cell values are converted
+     * by {@link ExcelDates} without {@link java.util.Calendar} objects.
+     */
+    private abstract static class DateMatcher implements Predicate<Cell> {
+        private final double daysBefore;
+        private final double daysAfter;
+        private boolean isExcelDateComputed = false;
+        private boolean isDate1904 = false;
+        private double excelDate = -1;
+
+        DateMatcher(double daysBefore, double daysAfter) {
+            this.daysBefore = daysBefore;
+            this.daysAfter = daysAfter;
+        }
+
+        /**
+         * @return expected value as Excel date or -1 if it can't be converted
+         */
+        abstract double getExcelDate(boolean isDate1904);
+
+        /**
+         * @param value valid Excel date
+         */
+        abstract boolean matches(double value, boolean isDate1904);
+
+        @Override
+        public boolean test(Cell cell) {
+            try {
+                if (getValueType(cell) != CellType.NUMERIC) {
                     return false;
-                case BOOLEAN:
-                    return Objects.equals(expected, cell.getBooleanCellValue());
-                case FORMULA:
-                    return equals(cell, cell.getCachedFormulaResultType(), expected);
-                default:
+                }
+                if (!isExcelDateComputed) {
+                    isDate1904 = cell.getSheet().getWorkbook().isDate1904();
+                    excelDate = getExcelDate(isDate1904);
+                    isExcelDateComputed = true;
+                }
+                double value = cell.getNumericCellValue();
+                if ((excelDate >= 0 && (value < excelDate - daysBefore || value > excelDate + daysAfter)) ||
+                        !ExcelDates.isValid(value)) {
                     return false;
+                }
+                return matches(value, isDate1904);
+            } catch (Exception ignore) {
+                return false;
             }
-        } catch (Exception ignore) {
-            return false;
+        }
+    }
+
+    /**
+     * Counts requested rows and tested cells for metrics.
+     */
+    private static final class ScanCounter implements IntFunction<@Nullable Row>, Predicate<Cell> {
+        private final IntFunction<@Nullable Row> rows;
+        private final Predicate<Cell> predicate;
+        private int rowCount = 0;
+        private int cellCount = 0;
+
+        private ScanCounter(IntFunction<@Nullable Row> rows, Predicate<Cell> predicate) {
+            this.rows = rows;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public @Nullable Row apply(int rowNum) {
+            rowCount++;
+            return rows.apply(rowNum);
+        }
+
+        @Override
+        public boolean test(Cell cell) {
+            cellCount++;
+            return predicate.test(cell);
         }
     }
 }
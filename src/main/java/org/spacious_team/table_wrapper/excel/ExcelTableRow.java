@@ -29,6 +29,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spacious_team.table_wrapper.api.AbstractReportPageRow;
 import org.spacious_team.table_wrapper.api.TableCell;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.function.Function;
 
@@ -42,10 +43,56 @@ public class ExcelTableRow extends AbstractReportPageRow {
     @ToString.Exclude
     @Getter(AccessLevel.PACKAGE)
     private final Row row;
+    // cells cache of memoizing row, transient fields are excluded from equals() and hashCode()
+    @ToString.Exclude
+    private transient @Nullable MemoizingExcelTableCell @Nullable [] cells;
+    @ToString.Exclude
+    private transient boolean isMemoizing = false;
+
+    /**
+     * @return row which creates cell object once for each column and returns {@link MemoizingExcelTableCell}s,
+     * so cell values are decoded once. The object is not thread safe.
+     */
+    static ExcelTableRow memoizing(Row row) {
+        ExcelTableRow tableRow = of(row);
+        tableRow.isMemoizing = true;
+        return tableRow;
+    }
 
     public @Nullable TableCell getCell(int i) {
         Cell cell = row.getCell(i);
-        return (cell == null) ? null : ExcelTableCell.of(cell);
+        return (cell == null) ? null : toTableCell(cell);
+    }
+
+    private TableCell toTableCell(Cell cell) {
+        return isMemoizing ? getMemoizingCell(cell) : ExcelTableCell.of(cell);
+    }
+
+    private MemoizingExcelTableCell getMemoizingCell(Cell cell) {
+        int column = cell.getColumnIndex();
+        @Nullable MemoizingExcelTableCell @Nullable [] cache = cells;
+        if (cache == null || column >= cache.length) {
+            int size = Math.max(column + 1, row.getLastCellNum());
+            cache = (cache == null) ? new MemoizingExcelTableCell[size] : Arrays.copyOf(cache, size);
+            cells = cache;
+        }
+        @Nullable MemoizingExcelTableCell tableCell = cache[column];
+        if (tableCell == null) {
+            tableCell = MemoizingExcelTableCell.of(cell);
+            cache[column] = tableCell;
+        }
+        return tableCell;
+    }
+
+    /**
+     * Allocation free version of {@link #getCell(int)}.
+     *
+     * @param reusableCell the object to bind to the row cell, previous binding is lost
+     * @return reusableCell, bound to the row cell, or null if cell is absent
+     */
+    public @Nullable ReusableExcelTableCell getCell(int i, ReusableExcelTableCell reusableCell) {
+        Cell cell = row.getCell(i);
+        return (cell == null) ? null : reusableCell.bind(cell);
     }
 
     @Override
@@ -75,7 +122,34 @@ public class ExcelTableRow extends AbstractReportPageRow {
     @Override
     public Iterator<@Nullable TableCell> iterator() {
         Function<@Nullable Cell, @Nullable TableCell> converter =
-                cell -> (cell == null) ? null : ExcelTableCell.of(cell);
+                cell -> (cell == null) ? null : toTableCell(cell);
         return new ReportPageRowIterator<>(row.iterator(), converter);
     }
+
+    /**
+     * Returns iterator which returns the same {@link ReusableExcelTableCell} object rebound to the next row cell
+     * on each {@link Iterator#next()} call. The returned cell is valid until the next {@code next()} call.
+     */
+    public Iterator<ReusableExcelTableCell> reusableCellIterator() {
+        return reusableCellIterator(ReusableExcelTableCell.create());
+    }
+
+    /**
+     * @param reusableCell the object to bind to row cells
+     * @see #reusableCellIterator()
+     */
+    public Iterator<ReusableExcelTableCell> reusableCellIterator(ReusableExcelTableCell reusableCell) {
+        Iterator<Cell> iterator = row.cellIterator();
+        return new Iterator<ReusableExcelTableCell>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public ReusableExcelTableCell next() {
+                return reusableCell.bind(iterator.next());
+            }
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.spacious_team.table_wrapper.excel.ExcelStreamingSheet.DEFAULT_ROW_WINDOW_SIZE;
+
+/**
+ * Report page, which reads source sheet once and stores its rows in a compact binary memory mapped temporary file.
+ * Rows are accessed randomly, only the last {@code rowWindowSize} loaded rows are kept on heap as POI rows.
+ * Unlike {@link ExcelStreamingSheet} access to an evicted row doesn't restart sheet reading, so rows can be accessed
+ * in any order, for example tables can refer to earlier header rows.
+ * <p>
+ * Rows are stored in a buffer sheet, so {@link ExcelTableRow}, {@link ExcelTableCell} and {@link ExcelTable}
+ * work the same way as for {@link ExcelSheet}. Row objects returned before eviction stay valid.
+ * {@link #getSheet()} returns the buffer sheet. Cell styles are not stored, formula cell is stored as its cached result.
+ */
+public class FileBackedExcelSheet extends ExcelSheet implements Closeable {
+
+    private final SheetRowsFile rows;
+    private final int rowWindowSize;
+    private final Deque<Row> bufferedRows = new ArrayDeque<>();
+
+    /**
+     * Reads sheet of xlsx file by {@link XlsxStreamingSheet} and stores it to the temporary file.
+     *
+     * @param sheetIndex 0-based sheet index
+     */
+    public static FileBackedExcelSheet open(Path xlsx, int sheetIndex) throws IOException {
+        try (XlsxStreamingSheet source = XlsxStreamingSheet.open(xlsx, sheetIndex)) {
+            return of(source, DEFAULT_ROW_WINDOW_SIZE);
+        }
+    }
+
+    /**
+     * Reads source sheet rows in ascending order and stores them to the temporary file.
+     * Source can be closed after this call.
+     */
+    public static FileBackedExcelSheet of(ExcelSheet source) throws IOException {
+        return of(source, DEFAULT_ROW_WINDOW_SIZE);
+    }
+
+    /**
+     * Reads source sheet rows in ascending order and stores them to the temporary file.
+     * Source can be closed after this call.
+     *
+     * @param rowWindowSize max rows count kept in memory
+     */
+    public static FileBackedExcelSheet of(ExcelSheet source, int rowWindowSize) throws IOException {
+        if (rowWindowSize < 1) {
+            throw new IllegalArgumentException("Row window size should be positive: " + rowWindowSize);
+        }
+        boolean isDate1904 = source.getSheet().getWorkbook().isDate1904();
+        return new FileBackedExcelSheet(SheetRowsFile.of(source), rowWindowSize, isDate1904);
+    }
+
+    private FileBackedExcelSheet(SheetRowsFile rows, int rowWindowSize, boolean isDate1904) {
+        super(ExcelStreamingSheet.createBufferSheet());
+        this.rows = rows;
+        this.rowWindowSize = rowWindowSize;
+        ExcelStreamingSheet.setDate1904(getSheet(), isDate1904);
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return rows.getLastRowNum();
+    }
+
+    @Override
+    @Nullable Row getSheetRow(int i) {
+        if (!rows.hasRow(i)) {
+            return null;
+        }
+        Sheet buffer = getSheet();
+        @Nullable Row row = buffer.getRow(i);
+        if (row == null) {
+            if (bufferedRows.size() >= rowWindowSize) {
+                buffer.removeRow(bufferedRows.removeFirst());
+            }
+            row = buffer.createRow(i);
+            rows.readRow(i, row);
+            bufferedRows.addLast(row);
+            @Nullable ExcelMetricsListener listener = ExcelMetrics.getListener();
+            if (listener != null) {
+                listener.onRowRead(i);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * @return false, rows are read to the shared buffer sheet
+     */
+    @Override
+    boolean isConcurrentRowAccessSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            rows.close();
+        } finally {
+            ExcelStreamingSheet.closeBufferSheet(getSheet());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Temporary file, which is written sequentially and then memory mapped for random read access.
+ * File is deleted when it is mapped, mapped memory stays valid until it is released by garbage collector.
+ */
+final class MappedTempFile implements Closeable {
+
+    static final int SEGMENT_SIZE = 1 << 30;  // mapped region size is limited by Integer.MAX_VALUE
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+    private long size = 0;
+    private ByteBuffer[] segments = new ByteBuffer[0];
+
+    MappedTempFile(String prefix) throws IOException {
+        Path file = Files.createTempFile(prefix, ".bin");
+        this.channel = FileChannel.open(file, READ, WRITE, DELETE_ON_CLOSE);
+    }
+
+    /**
+     * @return count of written bytes, the position of the next written byte
+     */
+    long size() {
+        return size;
+    }
+
+    void write(byte[] bytes, int offset, int length) throws IOException {
+        if (length > buffer.remaining()) {
+            flush();
+        }
+        if (length > buffer.capacity()) {
+            write(ByteBuffer.wrap(bytes, offset, length));
+        } else {
+            buffer.put(bytes, offset, length);
+        }
+        size += length;
+    }
+
+    /**
+     * Skips bytes up to the next segment if {@code length} bytes don't fit into the current segment,
+     * so the next written record can be read by a single {@link #getBuffer(long)} call.
+     */
+    void alignToSegment(int length) throws IOException {
+        if (length > SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Record is too large: " + length + " bytes");
+        }
+        int segmentRemaining = (int) (SEGMENT_SIZE - size % SEGMENT_SIZE);
+        if (length > segmentRemaining) {
+            flush();
+            size += segmentRemaining;
+            channel.position(size);
+        }
+    }
+
+    /**
+     * Maps written content to memory, file can't be written after this call.
+     */
+    void map() throws IOException {
+        flush();
+        int segmentCount = (int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+        ByteBuffer[] mapped = new ByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long from = (long) i * SEGMENT_SIZE;
+            mapped[i] = channel.map(READ_ONLY, from, Math.min(SEGMENT_SIZE, size - from));
+        }
+        this.segments = mapped;
+        channel.close();
+    }
+
+    /**
+     * @return buffer positioned to the file position, buffer limit is the end of segment
+     */
+    ByteBuffer getBuffer(long position) {
+        ByteBuffer segment = segments[(int) (position / SEGMENT_SIZE)].duplicate();
+        segment.position((int) (position % SEGMENT_SIZE));
+        return segment;
+    }
+
+    /**
+     * Reads bytes, which can cross segment boundary.
+     */
+    byte[] getBytes(long position, int length) {
+        byte[] bytes = new byte[length];
+        for (int copied = 0; copied < length; ) {
+            ByteBuffer segment = getBuffer(position + copied);
+            int n = Math.min(length - copied, segment.remaining());
+            segment.get(bytes, copied, n);
+            copied += n;
+        }
+        return bytes;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        write(buffer);
+        buffer.clear();
+    }
+
+    private void write(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    /**
+     * Deletes not mapped file and releases mapped memory references, memory is unmapped by garbage collector.
+     */
+    @Override
+    public void close() throws IOException {
+        segments = new ByteBuffer[0];
+        channel.close();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.poi.ss.usermodel.Cell;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.AbstractTableCell;
+
+import java.math.BigDecimal;
+
+import static org.spacious_team.table_wrapper.excel.ExcelCellDataAccessObject.INSTANCE;
+
+/**
+ * Cell which decodes cell value once and returns cached value on repeated calls of
+ * {@link #getValue()}, {@link #getDoubleValue()}, {@link #getStringValue()} and {@link #getBigDecimalValue()}.
+ * Useful if the same cell is read many times. Sheet cell modifications made after the first read
+ * are not visible. Exceptions are not cached. The object is not thread safe.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+@EqualsAndHashCode(callSuper = true)
+public class MemoizingExcelTableCell extends AbstractTableCell<Cell, ExcelCellDataAccessObject> {
+
+    // transient fields are excluded from equals() and hashCode()
+    private transient boolean isValueDecoded = false;
+    private transient @Nullable Object value;
+    private transient boolean isDoubleValueDecoded = false;
+    private transient double doubleValue;
+    private transient @Nullable String stringValue;
+    private transient @Nullable BigDecimal bigDecimalValue;
+
+    public static MemoizingExcelTableCell of(Cell cell) {
+        return of(cell, INSTANCE);
+    }
+
+    public static MemoizingExcelTableCell of(Cell cell, ExcelCellDataAccessObject dao) {
+        return new MemoizingExcelTableCell(cell, dao);
+    }
+
+    private MemoizingExcelTableCell(Cell cell, ExcelCellDataAccessObject dao) {
+        super(cell, dao);
+    }
+
+    @Override
+    public int getColumnIndex() {
+        return getCell().getColumnIndex();
+    }
+
+    @Override
+    public @Nullable Object getValue() {
+        if (!isValueDecoded) {
+            value = super.getValue();
+            isValueDecoded = true;
+        }
+        return value;
+    }
+
+    @Override
+    public double getDoubleValue() {
+        if (!isDoubleValueDecoded) {
+            doubleValue = super.getDoubleValue();
+            isDoubleValueDecoded = true;
+        }
+        return doubleValue;
+    }
+
+    @Override
+    public String getStringValue() {
+        @Nullable String string = stringValue;
+        if (string == null) {
+            string = super.getStringValue();
+            stringValue = string;
+        }
+        return string;
+    }
+
+    @Override
+    public BigDecimal getBigDecimalValue() {
+        @Nullable BigDecimal number = bigDecimalValue;
+        if (number == null) {
+            number = super.getBigDecimalValue();
+            bigDecimalValue = number;
+        }
+        return number;
+    }
+
+    @Override
+    protected MemoizingExcelTableCell createWithCellDataAccessObject(ExcelCellDataAccessObject dao) {
+        return new MemoizingExcelTableCell(getCell(), dao);
+    }
+
+    @SuppressWarnings("unused")
+    @ToString.Include(name = "value")
+    private String getCellData() {
+        return getStringValue();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Index of sheet merged regions for cell lookup in O(log^2 n) time and O(n) memory. Regions are stored in
+ * the centered interval tree by rows: a node keeps regions containing its center row, sorted by the first column.
+ * Regions of a node don't overlap by columns, because they have the common row and regions shouldn't overlap,
+ * as Excel requires, so a column is found by binary search.
+ */
+final class MergedRegionIndex {
+
+    private final CellRangeAddress[] regions;  // grouped by nodes, sorted by the first column in a node
+    private final int[] firstColumns;  // of regions
+    private final int[] maxLastColumns;  // max last column of the node regions up to the region inclusive
+    private final int[] centerRows;  // of nodes
+    private final int[] regionEnds;  // end index of node regions, exclusive
+    private final int[] leftNodes;  // node of regions above the center row or -1
+    private final int[] rightNodes;  // node of regions below the center row or -1
+    private final int root;
+    private int regionCount = 0;
+    private int nodeCount = 0;
+
+    static MergedRegionIndex of(List<CellRangeAddress> mergedRegions) {
+        List<CellRangeAddress> regions = new ArrayList<>(mergedRegions.size());
+        for (CellRangeAddress region : mergedRegions) {
+            if (isValid(region)) {
+                regions.add(region);
+            }
+        }
+        return new MergedRegionIndex(regions);
+    }
+
+    private static boolean isValid(CellRangeAddress region) {
+        return region.getFirstRow() >= 0 && region.getFirstRow() <= region.getLastRow() &&
+                region.getFirstColumn() >= 0 && region.getFirstColumn() <= region.getLastColumn();
+    }
+
+    private MergedRegionIndex(List<CellRangeAddress> regions) {
+        int n = regions.size();  // each node has at least one region
+        this.regions = new CellRangeAddress[n];
+        this.firstColumns = new int[n];
+        this.maxLastColumns = new int[n];
+        this.centerRows = new int[n];
+        this.regionEnds = new int[n];
+        this.leftNodes = new int[n];
+        this.rightNodes = new int[n];
+        this.root = addNode(regions);
+    }
+
+    /**
+     * @return node index or -1 if regions are empty
+     */
+    private int addNode(List<CellRangeAddress> nodeRegions) {
+        if (nodeRegions.isEmpty()) {
+            return -1;
+        }
+        int centerRow = getMedianRow(nodeRegions);  // each subtree has at most half of the regions
+        List<CellRangeAddress> above = new ArrayList<>();
+        List<CellRangeAddress> below = new ArrayList<>();
+        List<CellRangeAddress> containing = new ArrayList<>();
+        for (CellRangeAddress region : nodeRegions) {
+            if (region.getLastRow() < centerRow) {
+                above.add(region);
+            } else if (region.getFirstRow() > centerRow) {
+                below.add(region);
+            } else {
+                containing.add(region);
+            }
+        }
+        containing.sort(Comparator.comparingInt(CellRangeAddress::getFirstColumn));
+        int node = nodeCount++;
+        centerRows[node] = centerRow;
+        int maxLastColumn = -1;
+        for (CellRangeAddress region : containing) {
+            int i = regionCount++;
+            regions[i] = region;
+            firstColumns[i] = region.getFirstColumn();
+            maxLastColumn = Math.max(maxLastColumn, region.getLastColumn());
+            maxLastColumns[i] = maxLastColumn;
+        }
+        regionEnds[node] = regionCount;
+        leftNodes[node] = addNode(above);
+        rightNodes[node] = addNode(below);
+        return node;
+    }
+
+    /**
+     * @return median of the first and last rows of the regions
+     */
+    private static int getMedianRow(List<CellRangeAddress> regions) {
+        int n = regions.size();
+        int[] rows = new int[2 * n];
+        for (int i = 0; i < n; i++) {
+            CellRangeAddress region = regions.get(i);
+            rows[2 * i] = region.getFirstRow();
+            rows[2 * i + 1] = region.getLastRow();
+        }
+        Arrays.sort(rows);
+        return rows[n];
+    }
+
+    /**
+     * @return merged region containing the cell or null
+     */
+    @Nullable CellRangeAddress find(int rowNum, int columnIndex) {
+        int node = root;
+        while (node != -1) {
+            @Nullable CellRangeAddress region = findInNode(node, rowNum, columnIndex);
+            int centerRow = centerRows[node];
+            if (region != null) {
+                return region;
+            } else if (rowNum < centerRow) {
+                node = leftNodes[node];
+            } else if (rowNum > centerRow) {
+                node = rightNodes[node];
+            } else {
+                return null;  // regions of subtrees don't contain center row
+            }
+        }
+        return null;
+    }
+
+    private @Nullable CellRangeAddress findInNode(int node, int rowNum, int columnIndex) {
+        int from = (node == 0) ? 0 : regionEnds[node - 1];
+        // the last region with first column not greater than the column
+        int low = from;
+        int high = regionEnds[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (firstColumns[mid] <= columnIndex) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // single step for not overlapped regions
+        for (int i = high; i >= from && maxLastColumns[i] >= columnIndex; i--) {
+            CellRangeAddress region = regions[i];
+            if (region.isInRange(rowNum, columnIndex)) {
+                return region;
+            }
+        }
+        return null;
+    }
+}
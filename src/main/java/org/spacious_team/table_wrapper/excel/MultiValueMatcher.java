@@ -0,0 +1,151 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.spacious_team.table_wrapper.excel.ExcelTableHelper.NUMBER_PRECISION;
+
+/**
+ * Matches cell against many expected values at once. Strings, booleans and blanks are looked up by hash,
+ * numbers by sorted map, other values (dates) are checked by {@link ExcelTableHelper#createMatcher(Object)}.
+ * Each value is matched once. Equality rules are the same as for
+ * {@link ExcelTableHelper#find(org.apache.poi.ss.usermodel.Sheet, Object, int, int, int, int)}.
+ */
+final class MultiValueMatcher {
+
+    private final Map<String, List<@Nullable Object>> strings = new HashMap<>();
+    private final NavigableMap<Double, List<Object>> numbers = new TreeMap<>();
+    private final List<@Nullable Object> blanks = new ArrayList<>();
+    private final List<Object> trueValues = new ArrayList<>();
+    private final List<Object> falseValues = new ArrayList<>();
+    private final Map<Object, Predicate<Cell>> otherValues = new HashMap<>();
+    private final Set<@Nullable Object> unmatchedValues = new HashSet<>();
+
+    MultiValueMatcher(Iterable<?> values) {
+        for (@Nullable Object value : values) {
+            add(value);
+        }
+    }
+
+    private void add(@Nullable Object value) {
+        if (!unmatchedValues.add(value)) {
+            return;  // duplicate
+        }
+        if (value == null || Objects.equals(value, "")) {
+            blanks.add(value);
+        }
+        if (value instanceof CharSequence) {
+            strings.computeIfAbsent(value.toString(), s -> new ArrayList<>()).add(value);
+        } else if (value instanceof Number) {
+            numbers.computeIfAbsent(((Number) value).doubleValue(), d -> new ArrayList<>()).add(value);
+        } else if (value instanceof Boolean) {
+            ((Boolean) value ? trueValues : falseValues).add(value);
+        } else if (value != null) {
+            otherValues.put(value, ExcelTableHelper.createMatcher(value));
+        }
+    }
+
+    /**
+     * @return true if all values are matched
+     */
+    boolean isEmpty() {
+        return unmatchedValues.isEmpty();
+    }
+
+    /**
+     * Passes values equal to cell value to consumer. Each value is passed once.
+     */
+    void match(Cell cell, Consumer<@Nullable Object> matchedValueConsumer) {
+        switch (ExcelTableHelper.getValueType(cell)) {
+            case STRING:
+                @Nullable List<@Nullable Object> stringValues = strings.remove(cell.getStringCellValue());
+                if (stringValues != null) {
+                    accept(stringValues, matchedValueConsumer);
+                }
+                break;
+            case NUMERIC:
+                double number = cell.getNumericCellValue();
+                Iterator<Map.Entry<Double, List<Object>>> it = numbers
+                        .subMap(number - NUMBER_PRECISION, true, number + NUMBER_PRECISION, true)
+                        .entrySet()
+                        .iterator();
+                while (it.hasNext()) {
+                    Map.Entry<Double, List<Object>> e = it.next();
+                    if (Math.abs(e.getKey() - number) < NUMBER_PRECISION) {
+                        accept(e.getValue(), matchedValueConsumer);
+                        it.remove();
+                    }
+                }
+                matchOtherValues(cell, matchedValueConsumer);  // dates
+                break;
+            case BOOLEAN:
+                List<Object> booleans = cell.getBooleanCellValue() ? trueValues : falseValues;
+                accept(booleans, matchedValueConsumer);
+                booleans.clear();
+                break;
+            case BLANK:
+                accept(blanks, matchedValueConsumer);
+                blanks.clear();
+                break;
+            default:
+                // errors are never equal to expected value
+        }
+    }
+
+    private void matchOtherValues(Cell cell, Consumer<@Nullable Object> matchedValueConsumer) {
+        if (otherValues.isEmpty()) {
+            return;
+        }
+        Iterator<Map.Entry<Object, Predicate<Cell>>> it = otherValues.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Object, Predicate<Cell>> e = it.next();
+            if (e.getValue().test(cell)) {
+                accept(e.getKey(), matchedValueConsumer);
+                it.remove();
+            }
+        }
+    }
+
+    private void accept(List<? extends @Nullable Object> values, Consumer<@Nullable Object> matchedValueConsumer) {
+        for (@Nullable Object value : values) {
+            accept(value, matchedValueConsumer);
+        }
+    }
+
+    private void accept(@Nullable Object value, Consumer<@Nullable Object> matchedValueConsumer) {
+        if (unmatchedValues.remove(value)) {  // empty string may be matched by both blank and string cells
+            matchedValueConsumer.accept(value);
+        }
+    }
+}
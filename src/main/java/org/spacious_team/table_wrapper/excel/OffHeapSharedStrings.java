@@ -0,0 +1,200 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.spacious_team.table_wrapper.excel.XlsxStreamingSheet.skipElement;
+import static org.spacious_team.table_wrapper.excel.XlsxStreamingSheet.XML_INPUT_FACTORY;
+
+/**
+ * Shared strings table of xlsx file, which is kept out of java heap. Strings are written in UTF-8 encoding
+ * to a memory mapped temporary file, only string offsets are stored on heap. String object is created
+ * on each {@link #getString(int)} call and is not cached.
+ * <p>
+ * Phonetic runs are not included in string values, the same as {@code XSSFWorkbook} does.
+ */
+final class OffHeapSharedStrings implements SharedStrings, Closeable {
+
+    private static final Pattern UTF_ESCAPE = Pattern.compile("_x([0-9A-Fa-f]{4})_");
+
+    private final long[] offsets;  // string i bytes are [offsets[i], offsets[i + 1])
+    private final int uniqueCount;
+    private final int count;
+    private final MappedTempFile file;
+
+    /**
+     * Reads shared strings table of xlsx package, table is empty if package doesn't contain it.
+     */
+    static OffHeapSharedStrings of(OPCPackage xlsx) throws IOException, XMLStreamException {
+        List<PackagePart> parts = xlsx.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+        if (parts.isEmpty()) {
+            return new Builder().build(0);
+        }
+        try (InputStream in = parts.get(0).getInputStream()) {
+            return of(in);
+        }
+    }
+
+    /**
+     * @param sharedStringsXml sharedStrings.xml part content
+     */
+    static OffHeapSharedStrings of(InputStream sharedStringsXml) throws IOException, XMLStreamException {
+        Builder builder = new Builder();
+        try {
+            XMLStreamReader xml = XML_INPUT_FACTORY.createXMLStreamReader(sharedStringsXml);
+            try {
+                return builder.build(read(xml, builder));
+            } finally {
+                xml.close();
+            }
+        } catch (Exception e) {
+            builder.file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return total strings count declared by the table
+     */
+    private static int read(XMLStreamReader xml, Builder builder) throws IOException, XMLStreamException {
+        int count = 0;
+        StringBuilder text = new StringBuilder();
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == START_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("si".equals(name)) {
+                    text.setLength(0);
+                } else if ("t".equals(name)) {  // plain text or rich text run
+                    text.append(xml.getElementText());
+                } else if ("rPh".equals(name)) {
+                    skipElement(xml);
+                } else if ("sst".equals(name)) {
+                    @Nullable String value = xml.getAttributeValue(null, "count");
+                    count = (value == null) ? 0 : Integer.parseInt(value);
+                }
+            } else if (event == END_ELEMENT && "si".equals(xml.getLocalName())) {
+                builder.add(decodeUtfEscapes(text));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Decodes characters, escaped as "_xHHHH_" by Excel, the same as {@link XSSFRichTextString#getString()} does.
+     */
+    static String decodeUtfEscapes(CharSequence text) {
+        String string = text.toString();
+        if (string.indexOf("_x") == -1) {
+            return string;
+        }
+        Matcher matcher = UTF_ESCAPE.matcher(string);
+        StringBuilder decoded = new StringBuilder(string.length());
+        int from = 0;
+        while (matcher.find()) {
+            decoded.append(string, from, matcher.start())
+                    .append((char) Integer.parseInt(matcher.group(1), 16));
+            from = matcher.end();
+        }
+        return decoded.append(string, from, string.length()).toString();
+    }
+
+    private OffHeapSharedStrings(long[] offsets, int uniqueCount, int count, MappedTempFile file) {
+        this.offsets = offsets;
+        this.uniqueCount = uniqueCount;
+        this.count = count;
+        this.file = file;
+    }
+
+    /**
+     * @param index 0-based string index
+     * @throws IndexOutOfBoundsException if string is not found
+     */
+    String getString(int index) {
+        if (index < 0 || index >= uniqueCount) {
+            throw new IndexOutOfBoundsException("Shared string not found: " + index);
+        }
+        long from = offsets[index];
+        int length = (int) (offsets[index + 1] - from);
+        return (length == 0) ? "" : new String(file.getBytes(from, length), UTF_8);
+    }
+
+    @Override
+    public RichTextString getItemAt(int index) {
+        return new XSSFRichTextString(getString(index));
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getUniqueCount() {
+        return uniqueCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    private static final class Builder {
+        private final MappedTempFile file = new MappedTempFile("shared-strings");
+        private long[] offsets = new long[1024];
+        private int size = 0;
+
+        private Builder() throws IOException {
+        }
+
+        private void add(String string) throws IOException {
+            byte[] bytes = string.getBytes(UTF_8);
+            file.write(bytes, 0, bytes.length);
+            if (size + 1 == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[++size] = file.size();
+        }
+
+        private OffHeapSharedStrings build(int count) throws IOException {
+            file.map();
+            return new OffHeapSharedStrings(Arrays.copyOf(offsets, size + 1), size, Math.max(count, size), file);
+        }
+    }
+}
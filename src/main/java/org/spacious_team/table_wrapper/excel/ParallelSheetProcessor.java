@@ -0,0 +1,119 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Processes workbook sheets concurrently, one task per sheet. Usage example
+ * <pre>{@code
+ * ParallelSheetProcessor processor = ParallelSheetProcessor.of(executor);
+ * List<Table> tables = processor.process(workbook, reportPage -> reportPage.create("Table 1", Header.class));
+ * }</pre>
+ * POI workbook is not thread safe for modification, but different sheets can be read concurrently. To be safe,
+ * sheet processing function should not modify workbook. Lazily initialized workbook data shared by sheets
+ * (sheets, cell styles and their number formats used for date detection) are loaded by the calling thread
+ * before tasks are started.
+ * <p>
+ * Executor may be {@link ForkJoinPool} or, for Java 21+, virtual thread per task executor.
+ */
+@RequiredArgsConstructor(staticName = "of")
+public class ParallelSheetProcessor {
+
+    private final Executor executor;
+    private final Function<Sheet, ? extends ExcelSheet> reportPageFactory;
+
+    /**
+     * Creates processor which runs tasks on {@link ForkJoinPool#commonPool()}.
+     */
+    public static ParallelSheetProcessor create() {
+        return of(ForkJoinPool.commonPool());
+    }
+
+    public static ParallelSheetProcessor of(Executor executor) {
+        return of(executor, ExcelSheet::new);
+    }
+
+    /**
+     * @param sheetProcessor function, called for each sheet by executor thread
+     * @return results in sheet order
+     * @throws RuntimeException thrown by sheetProcessor
+     */
+    public <T> List<T> process(Workbook workbook, Function<? super ExcelSheet, ? extends T> sheetProcessor) {
+        try {
+            return this.<T>processAsync(workbook, sheetProcessor).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param sheetProcessor function, called for each sheet by executor thread
+     * @return future of results in sheet order, completed exceptionally if any sheet processing fails
+     */
+    public <T> CompletableFuture<List<T>> processAsync(Workbook workbook,
+                                                       Function<? super ExcelSheet, ? extends T> sheetProcessor) {
+        List<Sheet> sheets = prepare(workbook);
+        List<CompletableFuture<? extends T>> futures = new ArrayList<>(sheets.size());
+        for (Sheet sheet : sheets) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> sheetProcessor.apply(reportPageFactory.apply(sheet)),
+                    executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignore -> {
+                    List<T> results = new ArrayList<>(futures.size());
+                    for (CompletableFuture<? extends T> future : futures) {
+                        results.add(future.join());
+                    }
+                    return results;
+                });
+    }
+
+    /**
+     * Loads lazily initialized workbook data by the calling thread.
+     */
+    private static List<Sheet> prepare(Workbook workbook) {
+        for (int i = 0, n = workbook.getNumCellStyles(); i < n; i++) {
+            workbook.getCellStyleAt(i).getDataFormatString();
+        }
+        int sheetCount = workbook.getNumberOfSheets();
+        List<Sheet> sheets = new ArrayList<>(sheetCount);
+        for (int i = 0; i < sheetCount; i++) {
+            sheets.add(workbook.getSheetAt(i));
+        }
+        return sheets;
+    }
+}
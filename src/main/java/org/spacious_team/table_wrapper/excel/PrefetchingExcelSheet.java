@@ -0,0 +1,243 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Streaming report page, which reads source sheet by a background thread. The producer thread parses source rows
+ * and passes them by batches through a bounded queue, so the reading thread only copies decoded values to
+ * the row window and maps table rows, while the next rows are parsed. Producer waits if the queue is full.
+ * Usage example
+ * <pre>{@code
+ * try (ExcelStreamingSheet reportPage = PrefetchingExcelSheet.of(XlsxStreamingSheet.open(Path.of("1.xlsx"), 0))) {
+ *     Table table = reportPage.createTable("Table description", ...);
+ *     ...
+ * }
+ * }</pre>
+ * The source sheet is owned by this object after creation and is closed by {@link #close()}.
+ * Source reading error is thrown after the rows read before the error, the same way as by the source sheet.
+ * <p>
+ * Each row is created twice as POI row: by the source sheet parser in its row window and by this sheet from
+ * the batch. Only parsing of file is moved to the producer thread, so prefetching is useful if parsing
+ * (xml parsing and shared strings lookup) takes longer than row creation.
+ *
+ * @see ExcelStreamingSheet
+ */
+public class PrefetchingExcelSheet extends ExcelStreamingSheet {
+
+    static final int DEFAULT_BATCH_SIZE = 256;
+    static final int DEFAULT_QUEUE_CAPACITY = 4;
+    private static final RowBatch STOP = new RowBatch();  // wakes producer waiting for free batch
+
+    private final ExcelStreamingSheet source;
+    private final int lastRowNum;
+    private final int batchSize;
+    private final List<RowBatch> batches = new ArrayList<>();
+    private final BlockingQueue<RowBatch> freeBatches;
+    private final BlockingQueue<RowBatch> filledBatches;
+    private @Nullable Producer producer;
+    private @Nullable RowBatch batch;  // batch being read
+    private int batchRowIndex = 0;
+
+    public static PrefetchingExcelSheet of(ExcelStreamingSheet source) {
+        return of(source, DEFAULT_ROW_WINDOW_SIZE, DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param rowWindowSize max rows count kept in memory as POI rows
+     * @param batchSize     rows count passed between threads at once
+     * @param queueCapacity max count of parsed batches, which wait for reading
+     */
+    public static PrefetchingExcelSheet of(ExcelStreamingSheet source, int rowWindowSize,
+                                           int batchSize, int queueCapacity) {
+        if (batchSize < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Batch size and queue capacity should be positive: " +
+                    batchSize + ", " + queueCapacity);
+        }
+        return new PrefetchingExcelSheet(source, rowWindowSize, batchSize, queueCapacity);
+    }
+
+    private PrefetchingExcelSheet(ExcelStreamingSheet source, int rowWindowSize, int batchSize, int queueCapacity) {
+        super(rowWindowSize);
+        this.source = source;
+        this.lastRowNum = source.getLastRowNum();  // before producer thread start
+        this.batchSize = batchSize;
+        int batchCount = queueCapacity + 2;  // plus batches being filled and being read
+        this.freeBatches = new ArrayBlockingQueue<>(batchCount + 1);  // plus STOP
+        this.filledBatches = new ArrayBlockingQueue<>(queueCapacity);
+        for (int i = 0; i < batchCount; i++) {
+            batches.add(new RowBatch());
+        }
+        freeBatches.addAll(batches);
+        setDate1904(source.getSheet().getWorkbook().isDate1904());
+    }
+
+    @Override
+    public int getLastRowNum() {
+        return isEndOfSheet() ? getLastReadRowNum() : lastRowNum;
+    }
+
+    @Override
+    boolean readNextRow() throws IOException {
+        @Nullable RowBatch current = batch;
+        while (current == null || batchRowIndex >= current.getRowCount()) {
+            if (current != null) {
+                @Nullable Exception error = current.getError();
+                if (error != null) {
+                    throw new IOException("Can't read source sheet", error);  // after rows, read before error
+                } else if (current.isLast()) {
+                    return false;
+                }
+                freeBatches.add(current);
+                batch = null;
+            }
+            current = takeFilledBatch();
+            batch = current;
+            batchRowIndex = 0;
+        }
+        int index = batchRowIndex++;
+        Row row = createRow(current.getRowNum(index));
+        current.writeRow(index, row);
+        return true;
+    }
+
+    private RowBatch takeFilledBatch() throws IOException {
+        if (producer == null) {
+            Producer newProducer = new Producer();
+            producer = newProducer;
+            Thread thread = new Thread(newProducer, "excel-sheet-prefetch");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        try {
+            return filledBatches.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for sheet rows");
+        }
+    }
+
+    @Override
+    void rewind() throws IOException {
+        stopProducer();
+    }
+
+    /**
+     * Stops producer thread without interruption, interrupt could close file channel of the source.
+     */
+    private void stopProducer() throws IOException {
+        @Nullable Producer stopping = producer;
+        producer = null;
+        batch = null;
+        batchRowIndex = 0;
+        if (stopping != null) {
+            stopping.isStopped = true;
+            filledBatches.drainTo(freeBatches);  // unblocks producer waiting for queue space
+            freeBatches.add(STOP);  // unblocks producer waiting for free batch
+            try {
+                stopping.isDone.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while stopping sheet reading");
+            }
+        }
+        filledBatches.clear();
+        freeBatches.clear();
+        freeBatches.addAll(batches);
+    }
+
+    @Override
+    void closeSource() throws IOException {
+        try {
+            stopProducer();
+        } finally {
+            source.close();
+        }
+    }
+
+    /**
+     * Parses source rows to batches.
+     */
+    private final class Producer implements Runnable {
+        private final CountDownLatch isDone = new CountDownLatch(1);
+        private volatile boolean isStopped = false;
+
+        @Override
+        public void run() {
+            try {
+                @Nullable RowBatch filling = takeFreeBatch();
+                if (filling == null) {
+                    return;
+                }
+                try {
+                    source.restart();
+                    while (!isStopped && source.readNextRow()) {
+                        filling.addRow(source.getSheet().getRow(source.getLastReadRowNum()));
+                        if (filling.getRowCount() >= batchSize) {
+                            filledBatches.put(filling);
+                            filling = takeFreeBatch();
+                            if (filling == null) {
+                                return;
+                            }
+                        }
+                    }
+                    if (isStopped) {
+                        return;
+                    }
+                    filling.setLast();
+                } catch (Exception e) {
+                    filling.setError(e);
+                }
+                filledBatches.put(filling);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                isDone.countDown();
+            }
+        }
+
+        /**
+         * After stop producer puts at most one batch to the queue, so {@link #stopProducer()} is not blocked.
+         *
+         * @return cleared batch or null if producer is stopped
+         */
+        private @Nullable RowBatch takeFreeBatch() throws InterruptedException {
+            if (isStopped) {
+                return null;
+            }
+            RowBatch free = freeBatches.take();
+            if (free == STOP) {
+                return null;
+            }
+            free.clear();
+            return free;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import lombok.ToString;
+import org.apache.poi.ss.usermodel.Cell;
+import org.spacious_team.table_wrapper.api.AbstractTableCell;
+
+/**
+ * Flyweight cell, which is rebound to other POI cell by {@link ExcelTableRow#getCell(int, ReusableExcelTableCell)}
+ * and {@link ExcelTableRow#reusableCellIterator()}, so reading rows does not allocate cell wrapper per cell.
+ * <p>
+ * The object reflects only the last bound cell. Caller may retain values read from the object, but not the object
+ * itself: it is valid until the next rebinding. Use {@link #toExcelTableCell()} to retain the cell.
+ * The object is not thread safe.
+ */
+@ToString
+public class ReusableExcelTableCell extends AbstractTableCell<ExcelCellCursor, ExcelCellCursorDataAccessObject> {
+
+    @ToString.Exclude
+    private final ExcelCellCursor cursor;
+
+    /**
+     * Creates cell, which should be bound to a POI cell before usage.
+     */
+    public static ReusableExcelTableCell create() {
+        return create(ExcelCellCursorDataAccessObject.INSTANCE);
+    }
+
+    public static ReusableExcelTableCell create(ExcelCellCursorDataAccessObject dao) {
+        return new ReusableExcelTableCell(new ExcelCellCursor(), dao);
+    }
+
+    private ReusableExcelTableCell(ExcelCellCursor cursor, ExcelCellCursorDataAccessObject dao) {
+        super(cursor, dao);
+        this.cursor = cursor;
+    }
+
+    ReusableExcelTableCell bind(Cell cell) {
+        cursor.set(cell);
+        return this;
+    }
+
+    @Override
+    public int getColumnIndex() {
+        return cursor.get().getColumnIndex();
+    }
+
+    /**
+     * @return immutable cell, which wraps currently bound POI cell
+     */
+    public ExcelTableCell toExcelTableCell() {
+        return ExcelTableCell.of(cursor.get(), getCellDataAccessObject().getDelegate());
+    }
+
+    /**
+     * @return cell sharing cursor with this object, so it is rebound together with this object
+     */
+    @Override
+    protected ReusableExcelTableCell createWithCellDataAccessObject(ExcelCellCursorDataAccessObject dao) {
+        return new ReusableExcelTableCell(cursor, dao);
+    }
+
+    @SuppressWarnings("unused")
+    @ToString.Include(name = "value")
+    private String getCellData() {
+        return getStringValue();
+    }
+}
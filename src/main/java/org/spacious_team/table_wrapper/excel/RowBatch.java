@@ -0,0 +1,125 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Reusable batch of decoded sheet rows, which is passed between threads. Cells are stored in parallel arrays:
+ * column index, type and value, boolean and error values are stored as numbers. Formula cell is stored
+ * as its cached result. The object is not thread safe.
+ */
+final class RowBatch {
+
+    private int rowCount = 0;
+    private int[] rowNums = new int[16];
+    private int[] cellEnds = new int[16];  // end index of row cells, exclusive
+    private int cellCount = 0;
+    private int[] columns = new int[64];
+    private byte[] types = new byte[64];
+    private double[] numbers = new double[64];
+    private @Nullable String[] strings = new String[64];
+    private boolean isLast = false;
+    private @Nullable Exception error = null;
+
+    void clear() {
+        Arrays.fill(strings, 0, cellCount, null);
+        rowCount = 0;
+        cellCount = 0;
+        isLast = false;
+        error = null;
+    }
+
+    int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Marks batch as the last one of the sheet.
+     */
+    void setLast() {
+        isLast = true;
+    }
+
+    boolean isLast() {
+        return isLast;
+    }
+
+    /**
+     * Marks batch as the last one, reading is failed.
+     */
+    void setError(Exception error) {
+        this.error = error;
+        this.isLast = true;
+    }
+
+    @Nullable Exception getError() {
+        return error;
+    }
+
+    void addRow(Row row) {
+        if (rowCount == rowNums.length) {
+            rowNums = Arrays.copyOf(rowNums, rowCount * 2);
+            cellEnds = Arrays.copyOf(cellEnds, rowCount * 2);
+        }
+        for (@Nullable Cell cell : row) {
+            if (cell != null) {
+                addCell(cell);
+            }
+        }
+        rowNums[rowCount] = row.getRowNum();
+        cellEnds[rowCount] = cellCount;
+        rowCount++;
+    }
+
+    private void addCell(Cell cell) {
+        if (cellCount == columns.length) {
+            int capacity = cellCount * 2;
+            columns = Arrays.copyOf(columns, capacity);
+            types = Arrays.copyOf(types, capacity);
+            numbers = Arrays.copyOf(numbers, capacity);
+            strings = Arrays.copyOf(strings, capacity);
+        }
+        int i = cellCount++;
+        columns[i] = cell.getColumnIndex();
+        byte type = CellDecoder.getType(cell);
+        types[i] = type;
+        numbers[i] = CellDecoder.getNumber(cell, type);
+        strings[i] = CellDecoder.getString(cell, type);
+    }
+
+    int getRowNum(int index) {
+        return rowNums[index];
+    }
+
+    /**
+     * Creates cells of the row in the target row.
+     */
+    void writeRow(int index, Row target) {
+        for (int i = (index == 0) ? 0 : cellEnds[index - 1], end = cellEnds[index]; i < end; i++) {
+            Cell cell = target.createCell(columns[i]);
+            CellDecoder.setValue(cell, types[i], numbers[i], strings[i]);
+        }
+    }
+}
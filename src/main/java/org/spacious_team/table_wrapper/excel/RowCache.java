@@ -0,0 +1,80 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Bounded cache of rows, the least recently used row is evicted if cache is full. The object is not thread safe.
+ */
+final class RowCache {
+
+    private final Map<Integer, ExcelTableRow> rows;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    RowCache(int maxRows) {
+        if (maxRows < 1) {
+            throw new IllegalArgumentException("Row cache size should be positive: " + maxRows);
+        }
+        this.rows = new LinkedHashMap<>(16, 0.75f, true) {  // access order
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, ExcelTableRow> eldest) {
+                return size() > maxRows;
+            }
+        };
+    }
+
+    /**
+     * @param loader returns row by index or null if row is absent, absent rows are not cached
+     */
+    @Nullable ExcelTableRow get(int rowNum, IntFunction<@Nullable ExcelTableRow> loader) {
+        @Nullable ExcelTableRow row = rows.get(rowNum);
+        @Nullable ExcelMetricsListener listener = ExcelMetrics.getListener();
+        if (listener != null) {
+            listener.onRowCacheAccess(row != null);
+        }
+        if (row != null) {
+            hitCount++;
+            return row;
+        }
+        missCount++;
+        row = loader.apply(rowNum);
+        if (row != null) {
+            rows.put(rowNum, row);
+        }
+        return row;
+    }
+
+    long getHitCount() {
+        return hitCount;
+    }
+
+    long getMissCount() {
+        return missCount;
+    }
+
+    void clear() {
+        rows.clear();
+    }
+}
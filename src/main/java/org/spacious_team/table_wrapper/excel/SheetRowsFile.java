@@ -0,0 +1,170 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.spacious_team.table_wrapper.excel.CellDecoder.BOOLEAN;
+import static org.spacious_team.table_wrapper.excel.CellDecoder.ERROR;
+import static org.spacious_team.table_wrapper.excel.CellDecoder.NUMERIC;
+import static org.spacious_team.table_wrapper.excel.CellDecoder.STRING;
+
+/**
+ * Sheet rows stored in a compact binary memory mapped temporary file. Row record is a cells count followed by cells,
+ * each cell is a column index, a type and a value: double for numeric, byte for boolean and error,
+ * length prefixed UTF-8 bytes for string. Formula cell is stored as its cached result.
+ */
+final class SheetRowsFile implements Closeable {
+
+    private static final long ABSENT = -1;
+
+    private final long[] rowOffsets;  // record offset by row index
+    private final MappedTempFile file;
+
+    /**
+     * Reads source sheet rows in ascending order.
+     */
+    static SheetRowsFile of(ExcelSheet source) throws IOException {
+        MappedTempFile file = new MappedTempFile("sheet-rows");
+        try {
+            RecordWriter writer = new RecordWriter();
+            long[] rowOffsets = new long[Math.max(16, source.getLastRowNum() + 1)];
+            int rowCount = 0;
+            for (int rowNum = 0; rowNum <= source.getLastRowNum(); rowNum++) {  // streaming sheet can refine last row
+                if (rowNum == rowOffsets.length) {
+                    rowOffsets = Arrays.copyOf(rowOffsets, rowOffsets.length * 2);
+                }
+                @Nullable Row row = source.getSheetRow(rowNum);
+                if (row == null) {
+                    rowOffsets[rowNum] = ABSENT;
+                } else {
+                    writer.writeRow(row);
+                    file.alignToSegment(writer.size());
+                    rowOffsets[rowNum] = file.size();
+                    file.write(writer.array(), 0, writer.size());
+                }
+                rowCount = rowNum + 1;
+            }
+            file.map();
+            return new SheetRowsFile(Arrays.copyOf(rowOffsets, rowCount), file);
+        } catch (Exception e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    private SheetRowsFile(long[] rowOffsets, MappedTempFile file) {
+        this.rowOffsets = rowOffsets;
+        this.file = file;
+    }
+
+    int getLastRowNum() {
+        return rowOffsets.length - 1;
+    }
+
+    boolean hasRow(int rowNum) {
+        return rowNum >= 0 && rowNum < rowOffsets.length && rowOffsets[rowNum] != ABSENT;
+    }
+
+    /**
+     * Creates cells of stored row in the target row, the row should be present.
+     */
+    void readRow(int rowNum, Row target) {
+        ByteBuffer in = file.getBuffer(rowOffsets[rowNum]);
+        for (int cellCount = in.getInt(); cellCount > 0; cellCount--) {
+            Cell cell = target.createCell(in.getInt());
+            switch (in.get()) {
+                case STRING:
+                    byte[] bytes = new byte[in.getInt()];
+                    in.get(bytes);
+                    cell.setCellValue(new String(bytes, UTF_8));
+                    break;
+                case NUMERIC:
+                    cell.setCellValue(in.getDouble());
+                    break;
+                case BOOLEAN:
+                    cell.setCellValue(in.get() != 0);
+                    break;
+                case ERROR:
+                    cell.setCellErrorValue(in.get());
+                    break;
+                default:
+                    // blank cell
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    /**
+     * Serializes row to the reusable byte array.
+     */
+    private static final class RecordWriter extends ByteArrayOutputStream {
+        private final DataOutputStream out = new DataOutputStream(this);
+
+        private void writeRow(Row row) throws IOException {
+            reset();
+            out.writeInt(row.getPhysicalNumberOfCells());
+            for (@Nullable Cell cell : row) {
+                if (cell != null) {
+                    out.writeInt(cell.getColumnIndex());
+                    writeValue(cell);
+                }
+            }
+        }
+
+        private void writeValue(Cell cell) throws IOException {
+            byte type = CellDecoder.getType(cell);
+            out.writeByte(type);
+            switch (type) {
+                case STRING:
+                    byte[] bytes = cell.getStringCellValue().getBytes(UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                    break;
+                case NUMERIC:
+                    out.writeDouble(CellDecoder.getNumber(cell, type));
+                    break;
+                case BOOLEAN:
+                case ERROR:
+                    out.writeByte((byte) CellDecoder.getNumber(cell, type));
+                    break;
+                default:
+                    // blank cell
+            }
+        }
+
+        private byte[] array() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+import static org.spacious_team.table_wrapper.api.TableCellAddress.NOT_FOUND;
+import static org.spacious_team.table_wrapper.excel.ExcelTableHelper.NUMBER_PRECISION;
+
+/**
+ * Inverted index of sheet cell values. Maps cell value to cell addresses sorted in the sheet scan order
+ * (by row, then by column). Compatible with {@link ExcelTableHelper#find(Sheet, Object, int, int, int, int)}
+ * equality rules for strings, numbers, booleans and blank cells.
+ */
+final class SheetValueIndex {
+
+    private final Map<String, Addresses> strings = new HashMap<>();
+    private final NavigableMap<String, Addresses> trimmedStrings = new TreeMap<>();
+    private final NavigableMap<Double, Addresses> numbers = new TreeMap<>();
+    private final Addresses trueValues = new Addresses();
+    private final Addresses falseValues = new Addresses();
+    private final Addresses blanks = new Addresses();
+
+    /**
+     * @param rows       returns sheet row by index or null if row is absent
+     * @param lastRowNum last sheet row index
+     */
+    static SheetValueIndex of(IntFunction<@Nullable Row> rows, int lastRowNum) {
+        SheetValueIndex index = new SheetValueIndex();
+        for (int rowNum = 0; rowNum <= lastRowNum; rowNum++) {
+            @Nullable Row row = rows.apply(rowNum);
+            if (row == null) continue;
+            for (@Nullable Cell cell : row) {
+                if (cell != null) {
+                    index.add(cell, cell.getCellType(), toAddress(rowNum, cell.getColumnIndex()));
+                }
+            }
+        }
+        return index;
+    }
+
+    private SheetValueIndex() {
+    }
+
+    private void add(Cell cell, CellType cellType, long address) {
+        switch (cellType) {
+            case STRING:
+                String value = cell.getStringCellValue();
+                strings.computeIfAbsent(value, s -> new Addresses()).add(address);
+                trimmedStrings.computeIfAbsent(value.trim(), s -> new Addresses()).add(address);
+                break;
+            case NUMERIC:
+                numbers.computeIfAbsent(cell.getNumericCellValue(), d -> new Addresses()).add(address);
+                break;
+            case BOOLEAN:
+                (cell.getBooleanCellValue() ? trueValues : falseValues).add(address);
+                break;
+            case FORMULA:
+                add(cell, cell.getCachedFormulaResultType(), address);
+                break;
+            case BLANK:
+                blanks.add(address);
+                break;
+            default:
+                // errors are never equal to searched value
+        }
+    }
+
+    /**
+     * @return true if value search can be done by index
+     */
+    static boolean isIndexed(@Nullable Object value) {
+        return value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean;
+    }
+
+    /**
+     * Implements {@link ExcelTableHelper#find(Sheet, Object, int, int, int, int)} contract
+     * for values, supported by {@link #isIndexed(Object)}.
+     */
+    TableCellAddress find(@Nullable Object value, int startRow, int endRow, int startColumn, int endColumn) {
+        long start = getStartTime();
+        Range range = new Range(startRow, endRow, startColumn, endColumn);
+        long address;
+        if (value == null) {
+            address = blanks.findFirst(range);
+        } else if (value instanceof CharSequence) {
+            String string = value.toString();
+            address = getFirst(strings.get(string), range);
+            if (string.isEmpty()) {
+                address = Math.min(address, blanks.findFirst(range));
+            }
+        } else if (value instanceof Number) {
+            double number = ((Number) value).doubleValue();
+            address = Long.MAX_VALUE;
+            for (Map.Entry<Double, Addresses> e : numbers
+                    .subMap(number - NUMBER_PRECISION, true, number + NUMBER_PRECISION, true)
+                    .entrySet()) {
+                if (Math.abs(e.getKey() - number) < NUMBER_PRECISION) {
+                    address = Math.min(address, e.getValue().findFirst(range));
+                }
+            }
+        } else if (value instanceof Boolean) {
+            address = ((Boolean) value ? trueValues : falseValues).findFirst(range);
+        } else {
+            throw new IllegalArgumentException("Value is not indexed: " + value);
+        }
+        return toTableCellAddress(address, start);
+    }
+
+    /**
+     * Finds string cell which trimmed value starts with prefix.
+     */
+    TableCellAddress findByPrefix(String prefix, int startRow, int endRow, int startColumn, int endColumn) {
+        long start = getStartTime();
+        Range range = new Range(startRow, endRow, startColumn, endColumn);
+        long address = Long.MAX_VALUE;
+        for (Addresses addresses : trimmedStrings.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            address = Math.min(address, addresses.findFirst(range));
+        }
+        return toTableCellAddress(address, start);
+    }
+
+    private static long getFirst(@Nullable Addresses addresses, Range range) {
+        return (addresses == null) ? Long.MAX_VALUE : addresses.findFirst(range);
+    }
+
+    private static long toAddress(int row, int column) {
+        return ((long) row << 32) | column;
+    }
+
+    private static long getStartTime() {
+        return (ExcelMetrics.getListener() == null) ? 0 : System.nanoTime();
+    }
+
+    /**
+     * @param start search start time, reported to metrics listener
+     */
+    private static TableCellAddress toTableCellAddress(long address, long start) {
+        boolean isFound = (address != Long.MAX_VALUE);
+        @Nullable ExcelMetricsListener listener = ExcelMetrics.getListener();
+        if (listener != null) {
+            listener.onFind(0, 0, isFound, System.nanoTime() - start);  // sheet is not scanned
+        }
+        return isFound ?
+                TableCellAddress.of((int) (address >>> 32), (int) address) :
+                NOT_FOUND;
+    }
+
+    private static final class Range {
+        private final long fromAddress;
+        private final int endRow;
+        private final int startColumn;
+        private final int endColumn;
+
+        private Range(int startRow, int endRow, int startColumn, int endColumn) {
+            this.fromAddress = toAddress(Math.max(0, startRow), 0);
+            this.endRow = endRow;
+            this.startColumn = startColumn;
+            this.endColumn = endColumn;
+        }
+    }
+
+    /**
+     * Growable array of cell addresses, addresses are added in ascending order.
+     */
+    private static final class Addresses {
+        private long[] values = new long[1];
+        private int size = 0;
+
+        private void add(long address) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = address;
+        }
+
+        /**
+         * @return first address in range or {@link Long#MAX_VALUE}
+         */
+        private long findFirst(Range range) {
+            int i = Arrays.binarySearch(values, 0, size, range.fromAddress);
+            for (i = (i < 0) ? (-i - 1) : i; i < size; i++) {
+                long address = values[i];
+                int row = (int) (address >>> 32);
+                if (row >= range.endRow) {
+                    break;
+                }
+                int column = (int) address;
+                if (range.startColumn <= column && column < range.endColumn) {
+                    return address;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+}
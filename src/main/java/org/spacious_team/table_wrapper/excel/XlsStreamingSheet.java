@@ -0,0 +1,456 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BlankRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.record.DimensionsRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FilePassRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.MulBlankRecord;
+import org.apache.poi.hssf.record.MulRKRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.RKRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactoryInputStream;
+import org.apache.poi.hssf.record.RowRecord;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+
+/**
+ * Streaming report page of xls (BIFF8) file. Workbook stream records are read incrementally starting from
+ * the sheet substream, only the rows of the current window are kept in memory. The workbook shared strings table
+ * is read once on open.
+ *
+ * @see ExcelStreamingSheet
+ */
+public class XlsStreamingSheet extends ExcelStreamingSheet {
+
+    private static final int UNKNOWN = -2;
+
+    private final POIFSFileSystem fs;
+    private final String workbookDocumentName;
+    private final int sheetBofPosition;
+    private final @Nullable SSTRecord sharedStrings;
+    private final Queue<Integer> rowRecordNums = new ArrayDeque<>();  // rows declared by row records, not read yet
+    private int lastRowNum = UNKNOWN;
+    private @Nullable InputStream input;
+    private @Nullable RecordFactoryInputStream records;
+    private @Nullable Record pendingRecord;  // read record, which belongs to the next row
+    private @Nullable Row currentRow;
+    private @Nullable Cell formulaStringCell;  // formula cell, which cached string result follows
+    private int depth;  // nesting level of substreams, the sheet substream has level 1
+
+    /**
+     * Opens sheet of xls file for streaming read.
+     *
+     * @param sheetIndex 0-based sheet index
+     */
+    public static XlsStreamingSheet open(Path xls, int sheetIndex) throws IOException {
+        return open(xls, sheetIndex, null, DEFAULT_ROW_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens sheet of xls file for streaming read.
+     */
+    public static XlsStreamingSheet open(Path xls, String sheetName) throws IOException {
+        return open(xls, -1, sheetName, DEFAULT_ROW_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens sheet of xls file for streaming read.
+     *
+     * @param sheetIndex    0-based sheet index
+     * @param rowWindowSize max rows count kept in memory
+     */
+    public static XlsStreamingSheet open(Path xls, int sheetIndex, int rowWindowSize) throws IOException {
+        return open(xls, sheetIndex, null, rowWindowSize);
+    }
+
+    /**
+     * Opens sheet of xls file for streaming read. File content is read to memory,
+     * use {@link #open(Path, int)} to avoid this.
+     *
+     * @param sheetIndex 0-based sheet index
+     */
+    public static XlsStreamingSheet open(InputStream xls, int sheetIndex) throws IOException {
+        return open(new POIFSFileSystem(xls), sheetIndex, null, DEFAULT_ROW_WINDOW_SIZE);
+    }
+
+    /**
+     * @param sheetIndex 0-based sheet index, used if sheet name is null
+     */
+    static XlsStreamingSheet open(Path xls, int sheetIndex, @Nullable String sheetName,
+                                  int rowWindowSize) throws IOException {
+        return open(new POIFSFileSystem(xls.toFile(), true), sheetIndex, sheetName, rowWindowSize);
+    }
+
+    private static XlsStreamingSheet open(POIFSFileSystem fs, int sheetIndex, @Nullable String sheetName,
+                                          int rowWindowSize) throws IOException {
+        try {
+            String documentName = HSSFWorkbook.getWorkbookDirEntryName(fs.getRoot());
+            List<BoundSheetRecord> sheets = new ArrayList<>();
+            @Nullable SSTRecord sst = null;
+            boolean isDate1904 = false;
+            try (InputStream in = fs.createDocumentInputStream(documentName)) {
+                RecordFactoryInputStream globals = new RecordFactoryInputStream(in, false);
+                for (@Nullable Record record = globals.nextRecord();
+                     record != null && !(record instanceof EOFRecord);  // end of workbook globals substream
+                     record = globals.nextRecord()) {
+                    if (record instanceof BoundSheetRecord) {
+                        sheets.add((BoundSheetRecord) record);
+                    } else if (record instanceof SSTRecord) {
+                        sst = (SSTRecord) record;
+                    } else if (record instanceof DateWindow1904Record) {
+                        isDate1904 = ((DateWindow1904Record) record).getWindowing() == 1;
+                    } else if (record instanceof FilePassRecord) {
+                        throw new IOException("Encrypted xls file is not supported");
+                    }
+                }
+            }
+            int bofPosition = getSheet(sheets, sheetIndex, sheetName).getPositionOfBof();
+            XlsStreamingSheet sheet = new XlsStreamingSheet(fs, documentName, bofPosition, sst, rowWindowSize);
+            sheet.setDate1904(isDate1904);
+            return sheet;
+        } catch (Exception e) {
+            fs.close();
+            throw e;
+        }
+    }
+
+    private XlsStreamingSheet(POIFSFileSystem fs, String workbookDocumentName, int sheetBofPosition,
+                              @Nullable SSTRecord sharedStrings, int rowWindowSize) {
+        super(rowWindowSize);
+        this.fs = fs;
+        this.workbookDocumentName = workbookDocumentName;
+        this.sheetBofPosition = sheetBofPosition;
+        this.sharedStrings = sharedStrings;
+    }
+
+    private static BoundSheetRecord getSheet(List<BoundSheetRecord> sheets, int sheetIndex,
+                                             @Nullable String sheetName) {
+        for (int i = 0; i < sheets.size(); i++) {
+            BoundSheetRecord sheet = sheets.get(i);
+            if (i == sheetIndex || Objects.equals(sheet.getSheetname(), sheetName)) {
+                return sheet;
+            }
+        }
+        throw new IllegalArgumentException("Sheet not found: " + ((sheetName == null) ? sheetIndex : sheetName));
+    }
+
+    @Override
+    public int getLastRowNum() {
+        if (isEndOfSheet()) {
+            return getLastReadRowNum();
+        } else if (lastRowNum == UNKNOWN) {
+            try {
+                getRecords();  // reads sheet dimensions
+                if (lastRowNum == UNKNOWN) {
+                    lastRowNum = scanLastRowNum();
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Can't read sheet dimensions", e);
+            }
+        }
+        return lastRowNum;
+    }
+
+    /**
+     * Finds the last row by reading all sheet records. Used if sheet doesn't contain dimensions record.
+     */
+    private int scanLastRowNum() throws IOException {
+        try (InputStream in = openSheetSubstream()) {
+            RecordFactoryInputStream sheetRecords = new RecordFactoryInputStream(in, false);
+            int rowNum = -1;
+            int level = 0;
+            for (@Nullable Record record = sheetRecords.nextRecord();
+                 record != null;
+                 record = sheetRecords.nextRecord()) {
+                if (record instanceof BOFRecord) {
+                    level++;
+                } else if (record instanceof EOFRecord && --level == 0) {
+                    break;
+                } else if (level == 1) {
+                    rowNum = Math.max(rowNum, getRowNum(record));
+                }
+            }
+            return rowNum;
+        }
+    }
+
+    private InputStream openSheetSubstream() throws IOException {
+        InputStream in = fs.createDocumentInputStream(workbookDocumentName);
+        try {
+            long skipped = in.skip(sheetBofPosition);
+            if (skipped != sheetBofPosition) {
+                throw new IOException("Sheet position " + sheetBofPosition + " is out of workbook stream");
+            }
+            return in;
+        } catch (Exception e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens sheet substream and reads records preceding the rows
+     */
+    private RecordFactoryInputStream getRecords() throws IOException {
+        @Nullable RecordFactoryInputStream sheetRecords = this.records;
+        if (sheetRecords == null) {
+            InputStream in = openSheetSubstream();
+            this.input = in;
+            sheetRecords = new RecordFactoryInputStream(in, false);
+            this.records = sheetRecords;
+            depth = 0;
+            for (@Nullable Record record = sheetRecords.nextRecord();
+                 record != null;
+                 record = sheetRecords.nextRecord()) {
+                if (record instanceof BOFRecord) {
+                    depth++;
+                } else if (record instanceof DimensionsRecord && depth == 1) {
+                    readDimensions((DimensionsRecord) record);
+                    break;
+                } else if (getRowNum(record) >= 0 || record instanceof RowRecord || record instanceof EOFRecord) {
+                    pendingRecord = record;  // sheet without dimensions record
+                    break;
+                }
+            }
+        }
+        return sheetRecords;
+    }
+
+    private void readDimensions(DimensionsRecord dimensions) {
+        if (lastRowNum == UNKNOWN) {
+            lastRowNum = dimensions.getLastRow() - 1;  // record contains last row index plus one
+        }
+    }
+
+    @Override
+    boolean readNextRow() throws IOException {
+        RecordFactoryInputStream sheetRecords = getRecords();
+        currentRow = null;
+        while (true) {
+            @Nullable Record record = pendingRecord;
+            pendingRecord = null;
+            if (record == null) {
+                record = sheetRecords.nextRecord();
+            }
+            if (record == null || isEndOfSubstream(record)) {
+                pendingRecord = record;  // end of sheet, keep for subsequent calls
+                return (currentRow != null) || createRowOfRowRecord(Integer.MAX_VALUE);
+            } else if (depth > 1) {
+                continue;  // embedded chart substream
+            } else if (record instanceof RowRecord) {
+                int rowNum = ((RowRecord) record).getRowNumber();
+                if (currentRow == null || rowNum > currentRow.getRowNum()) {
+                    rowRecordNums.add(rowNum);
+                }
+                continue;
+            } else if (record instanceof StringRecord) {
+                @Nullable Cell cell = formulaStringCell;
+                if (cell != null) {
+                    cell.setCellValue(((StringRecord) record).getString());
+                }
+                continue;
+            }
+            int rowNum = getRowNum(record);
+            if (rowNum < 0) {
+                continue;
+            }
+            @Nullable Row row = currentRow;
+            if (row == null) {
+                if (createRowOfRowRecord(rowNum)) {
+                    pendingRecord = record;  // empty row precedes the cell row
+                    return true;
+                }
+                row = createRow(rowNum);
+                currentRow = row;
+            } else if (rowNum != row.getRowNum()) {
+                pendingRecord = record;
+                return true;
+            }
+            readCells(row, record);
+        }
+    }
+
+    /**
+     * Creates row declared by row record without cells, if such row precedes the row.
+     *
+     * @return true if row is created
+     */
+    private boolean createRowOfRowRecord(int beforeRowNum) {
+        while (!rowRecordNums.isEmpty() && rowRecordNums.element() <= getLastReadRowNum()) {
+            rowRecordNums.remove();  // row is created by its cells
+        }
+        @Nullable Integer rowNum = rowRecordNums.peek();
+        if (rowNum != null && rowNum < beforeRowNum) {
+            rowRecordNums.remove();
+            createRow(rowNum);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates substreams nesting level.
+     *
+     * @return true if the end of sheet substream is reached
+     */
+    private boolean isEndOfSubstream(Record record) {
+        if (record instanceof BOFRecord) {
+            depth++;
+        } else if (record instanceof EOFRecord) {
+            depth--;
+        }
+        return depth <= 0;
+    }
+
+    /**
+     * @return row index of cell record or -1 for other records
+     */
+    private static int getRowNum(Record record) {
+        if (record instanceof CellValueRecordInterface) {
+            return ((CellValueRecordInterface) record).getRow();
+        } else if (record instanceof MulRKRecord) {
+            return ((MulRKRecord) record).getRow();
+        } else if (record instanceof MulBlankRecord) {
+            return ((MulBlankRecord) record).getRow();
+        }
+        return -1;
+    }
+
+    private void readCells(Row row, Record record) {
+        formulaStringCell = null;
+        if (record instanceof MulRKRecord) {
+            MulRKRecord numbers = (MulRKRecord) record;
+            for (int i = 0, n = numbers.getNumColumns(); i < n; i++) {
+                row.createCell(numbers.getFirstColumn() + i).setCellValue(numbers.getRKNumberAt(i));
+            }
+        } else if (record instanceof MulBlankRecord) {
+            MulBlankRecord blanks = (MulBlankRecord) record;
+            for (int i = 0, n = blanks.getNumColumns(); i < n; i++) {
+                row.createCell(blanks.getFirstColumn() + i);
+            }
+        } else {
+            Cell cell = row.createCell(((CellValueRecordInterface) record).getColumn());
+            setCellValue(cell, record);
+        }
+    }
+
+    private void setCellValue(Cell cell, Record record) {
+        if (record instanceof LabelSSTRecord) {
+            cell.setCellValue(getSharedString(((LabelSSTRecord) record).getSSTIndex()));
+        } else if (record instanceof NumberRecord) {
+            cell.setCellValue(((NumberRecord) record).getValue());
+        } else if (record instanceof RKRecord) {
+            cell.setCellValue(((RKRecord) record).getRKNumber());
+        } else if (record instanceof BoolErrRecord) {
+            BoolErrRecord boolErr = (BoolErrRecord) record;
+            if (boolErr.isBoolean()) {
+                cell.setCellValue(boolErr.getBooleanValue());
+            } else {
+                cell.setCellErrorValue(boolErr.getErrorValue());
+            }
+        } else if (record instanceof FormulaRecord) {
+            setCachedFormulaResult(cell, (FormulaRecord) record);
+        } else if (record instanceof LabelRecord) {
+            cell.setCellValue(((LabelRecord) record).getValue());
+        } else if (!(record instanceof BlankRecord)) {
+            throw new IllegalStateException("Unexpected cell record: " + record.getClass().getSimpleName());
+        }
+    }
+
+    private void setCachedFormulaResult(Cell cell, FormulaRecord formula) {
+        switch (formula.getCachedResultTypeEnum()) {
+            case NUMERIC:
+                cell.setCellValue(formula.getValue());
+                break;
+            case STRING:
+                cell.setCellValue("");
+                formulaStringCell = cell;  // not empty string is stored in the next string record
+                break;
+            case BOOLEAN:
+                cell.setCellValue(formula.getCachedBooleanValue());
+                break;
+            case ERROR:
+                cell.setCellErrorValue((byte) formula.getCachedErrorValue());
+                break;
+            default:
+                // blank cell
+        }
+    }
+
+    private String getSharedString(int index) {
+        @Nullable SSTRecord sst = sharedStrings;
+        if (sst == null) {
+            throw new IllegalStateException("Workbook doesn't contain shared strings table");
+        }
+        return sst.getString(index).getString();
+    }
+
+    @Override
+    void rewind() throws IOException {
+        closeRecords();
+    }
+
+    private void closeRecords() throws IOException {
+        this.records = null;
+        this.pendingRecord = null;
+        this.currentRow = null;
+        this.formulaStringCell = null;
+        this.rowRecordNums.clear();
+        @Nullable InputStream in = this.input;
+        this.input = null;
+        if (in != null) {
+            in.close();
+        }
+    }
+
+    @Override
+    void closeSource() throws IOException {
+        try {
+            closeRecords();
+        } finally {
+            fs.close();
+        }
+    }
+}
@@ -0,0 +1,443 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Streaming report page of xlsx file. Sheet xml is parsed incrementally by StAX reader,
+ * only the rows of the current window are kept in memory.
+ *
+ * @see ExcelStreamingSheet
+ */
+public class XlsxStreamingSheet extends ExcelStreamingSheet {
+
+    static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+    private static final int UNKNOWN = -2;
+
+    private final OPCPackage xlsx;
+    private final PackagePart sheetPart;
+    private final SharedStrings sharedStrings;
+    private int lastRowNum = UNKNOWN;
+    private @Nullable InputStream input;
+    private @Nullable XMLStreamReader reader;
+
+    /**
+     * Opens sheet of xlsx file for streaming read.
+     *
+     * @param sheetIndex 0-based sheet index
+     */
+    public static XlsxStreamingSheet open(Path xlsx, int sheetIndex) throws IOException {
+        return open(xlsx, sheetIndex, null, DEFAULT_ROW_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens sheet of xlsx file for streaming read.
+     */
+    public static XlsxStreamingSheet open(Path xlsx, String sheetName) throws IOException {
+        return open(xlsx, -1, sheetName, DEFAULT_ROW_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens sheet of xlsx file for streaming read.
+     *
+     * @param sheetIndex    0-based sheet index
+     * @param rowWindowSize max rows count kept in memory
+     */
+    public static XlsxStreamingSheet open(Path xlsx, int sheetIndex, int rowWindowSize) throws IOException {
+        return open(xlsx, sheetIndex, null, rowWindowSize);
+    }
+
+    /**
+     * Opens sheet of xlsx file for streaming read. Compressed file content is read to memory,
+     * use {@link #open(Path, int)} to avoid this.
+     *
+     * @param sheetIndex 0-based sheet index
+     */
+    public static XlsxStreamingSheet open(InputStream xlsx, int sheetIndex) throws IOException {
+        try {
+            return open(OPCPackage.open(xlsx), sheetIndex, null, DEFAULT_ROW_WINDOW_SIZE, SharedStringsStorage.HEAP);
+        } catch (OpenXML4JException e) {
+            throw new IOException("Can't open xlsx file", e);
+        }
+    }
+
+    /**
+     * Opens sheet of xlsx file for streaming read.
+     *
+     * @param sheetIndex           0-based sheet index
+     * @param rowWindowSize        max rows count kept in memory
+     * @param sharedStringsStorage storage of the workbook shared strings table
+     */
+    public static XlsxStreamingSheet open(Path xlsx, int sheetIndex, int rowWindowSize,
+                                          SharedStringsStorage sharedStringsStorage) throws IOException {
+        return open(xlsx, sheetIndex, null, rowWindowSize, sharedStringsStorage);
+    }
+
+    /**
+     * @param sheetIndex 0-based sheet index, used if sheet name is null
+     */
+    static XlsxStreamingSheet open(Path xlsx, int sheetIndex, @Nullable String sheetName,
+                                   int rowWindowSize) throws IOException {
+        return open(xlsx, sheetIndex, sheetName, rowWindowSize, SharedStringsStorage.HEAP);
+    }
+
+    private static XlsxStreamingSheet open(Path xlsx, int sheetIndex, @Nullable String sheetName,
+                                           int rowWindowSize, SharedStringsStorage sharedStringsStorage)
+            throws IOException {
+        try {
+            return open(OPCPackage.open(xlsx.toFile(), PackageAccess.READ), sheetIndex, sheetName, rowWindowSize,
+                    sharedStringsStorage);
+        } catch (OpenXML4JException e) {
+            throw new IOException("Can't open xlsx file " + xlsx, e);
+        }
+    }
+
+    private static XlsxStreamingSheet open(OPCPackage xlsx, int sheetIndex, @Nullable String sheetName,
+                                           int rowWindowSize, SharedStringsStorage sharedStringsStorage)
+            throws IOException {
+        try {
+            XSSFReader xssfReader = new XSSFReader(xlsx);
+            PackagePart sheetPart = getSheetPart(xssfReader, sheetIndex, sheetName);
+            SharedStrings sharedStrings = (sharedStringsStorage == SharedStringsStorage.OFF_HEAP) ?
+                    OffHeapSharedStrings.of(xlsx) :
+                    new ReadOnlySharedStringsTable(xlsx, false);  // phonetic runs are not a part of cell value
+            boolean isDate1904;
+            try (InputStream workbook = xssfReader.getWorkbookData()) {
+                isDate1904 = isDate1904(workbook);
+            }
+            XlsxStreamingSheet sheet = new XlsxStreamingSheet(xlsx, sheetPart, sharedStrings, rowWindowSize);
+            sheet.setDate1904(isDate1904);
+            return sheet;
+        } catch (OpenXML4JException | SAXException | XMLStreamException e) {
+            xlsx.revert();
+            throw new IOException("Can't read xlsx file", e);
+        } catch (Exception e) {
+            xlsx.revert();
+            throw e;
+        }
+    }
+
+    private XlsxStreamingSheet(OPCPackage xlsx, PackagePart sheetPart, SharedStrings sharedStrings,
+                               int rowWindowSize) {
+        super(rowWindowSize);
+        this.xlsx = xlsx;
+        this.sheetPart = sheetPart;
+        this.sharedStrings = sharedStrings;
+    }
+
+    private static PackagePart getSheetPart(XSSFReader xssfReader, int sheetIndex, @Nullable String sheetName)
+            throws IOException, OpenXML4JException {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+        for (int i = 0; sheets.hasNext(); i++) {
+            try (InputStream ignored = sheets.next()) {
+                if (i == sheetIndex || Objects.equals(sheets.getSheetName(), sheetName)) {
+                    return sheets.getSheetPart();
+                }
+            }
+        }
+        throw new IllegalArgumentException("Sheet not found: " + ((sheetName == null) ? sheetIndex : sheetName));
+    }
+
+    private static boolean isDate1904(InputStream workbook) throws XMLStreamException {
+        XMLStreamReader xml = XML_INPUT_FACTORY.createXMLStreamReader(workbook);
+        try {
+            while (xml.hasNext()) {
+                if (xml.next() == START_ELEMENT) {
+                    String name = xml.getLocalName();
+                    if ("workbookPr".equals(name)) {
+                        return isTrue(xml.getAttributeValue(null, "date1904"));
+                    } else if ("sheets".equals(name)) {
+                        return false;  // workbookPr should precede sheets
+                    }
+                }
+            }
+            return false;
+        } finally {
+            xml.close();
+        }
+    }
+
+    /**
+     * Sheet dimension element is not used, it can be absent or stale. Last row is found by scanning row elements
+     * without parsing cells, the same way as {@link org.apache.poi.xssf.usermodel.XSSFSheet} ignores dimension.
+     */
+    @Override
+    public int getLastRowNum() {
+        if (isEndOfSheet()) {
+            return getLastReadRowNum();
+        } else if (lastRowNum == UNKNOWN) {
+            try {
+                lastRowNum = scanLastRowNum();
+            } catch (IOException | XMLStreamException e) {
+                throw new IllegalStateException("Can't find last sheet row", e);
+            }
+        }
+        return lastRowNum;
+    }
+
+    /**
+     * Finds the last row by reading all row elements without parsing cells.
+     */
+    private int scanLastRowNum() throws IOException, XMLStreamException {
+        try (InputStream in = sheetPart.getInputStream()) {
+            XMLStreamReader xml = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                int rowNum = -1;
+                while (xml.hasNext()) {
+                    if (xml.next() == START_ELEMENT && "row".equals(xml.getLocalName())) {
+                        rowNum = getRowNum(xml, rowNum);
+                    }
+                }
+                return rowNum;
+            } finally {
+                xml.close();
+            }
+        }
+    }
+
+    /**
+     * Opens sheet xml and moves reader to the sheetData element
+     */
+    private XMLStreamReader getReader() throws IOException, XMLStreamException {
+        @Nullable XMLStreamReader xml = this.reader;
+        if (xml == null) {
+            InputStream in = sheetPart.getInputStream();
+            this.input = in;
+            xml = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            this.reader = xml;
+            while (xml.hasNext()) {
+                if (xml.next() == START_ELEMENT && "sheetData".equals(xml.getLocalName())) {
+                    break;
+                }
+            }
+        }
+        return xml;
+    }
+
+    @Override
+    boolean readNextRow() throws IOException {
+        try {
+            XMLStreamReader xml = getReader();
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == START_ELEMENT && "row".equals(xml.getLocalName())) {
+                    readRow(xml);
+                    return true;
+                } else if (event == END_ELEMENT && "sheetData".equals(xml.getLocalName())) {
+                    return false;
+                }
+            }
+            return false;
+        } catch (XMLStreamException e) {
+            throw new IOException("Can't parse sheet xml", e);
+        }
+    }
+
+    private void readRow(XMLStreamReader xml) throws XMLStreamException {
+        Row row = createRow(getRowNum(xml, getLastReadRowNum()));
+        int column = -1;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == START_ELEMENT && "c".equals(xml.getLocalName())) {
+                column = readCell(xml, row, column + 1);
+            } else if (event == END_ELEMENT && "row".equals(xml.getLocalName())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return cell column index
+     */
+    private int readCell(XMLStreamReader xml, Row row, int defaultColumn) throws XMLStreamException {
+        @Nullable String ref = xml.getAttributeValue(null, "r");
+        int column = (ref == null) ? defaultColumn : getColumnIndex(ref);
+        @Nullable String type = xml.getAttributeValue(null, "t");
+        @Nullable String value = null;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == START_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("v".equals(name)) {
+                    value = xml.getElementText();
+                } else if ("t".equals(name)) {  // inline string, can be split to rich text runs
+                    String text = xml.getElementText();
+                    value = (value == null) ? text : value + text;
+                } else if ("rPh".equals(name)) {
+                    skipElement(xml);  // phonetic run text is not a part of cell value
+                }
+            } else if (event == END_ELEMENT && "c".equals(xml.getLocalName())) {
+                break;
+            }
+        }
+        Cell cell = row.createCell(column);
+        if (value != null) {
+            setCellValue(cell, type, value);
+        }
+        return column;
+    }
+
+    private void setCellValue(Cell cell, @Nullable String type, String value) {
+        switch ((type == null) ? "n" : type) {
+            case "n":
+                if (!value.isEmpty()) {
+                    cell.setCellValue(Double.parseDouble(value));
+                }
+                break;
+            case "s":
+                cell.setCellValue(getSharedString(Integer.parseInt(value)));
+                break;
+            case "b":
+                cell.setCellValue(isTrue(value));
+                break;
+            case "e":
+                cell.setCellErrorValue(FormulaError.forString(value).getCode());
+                break;
+            case "str":  // formula result
+            case "inlineStr":
+                cell.setCellValue(OffHeapSharedStrings.decodeUtfEscapes(value));
+                break;
+            default:  // "d" (ISO 8601 date)
+                cell.setCellValue(value);
+        }
+    }
+
+    private String getSharedString(int index) {
+        return (sharedStrings instanceof OffHeapSharedStrings) ?
+                ((OffHeapSharedStrings) sharedStrings).getString(index) :  // without rich text object creation
+                sharedStrings.getItemAt(index).getString();
+    }
+
+    static void skipElement(XMLStreamReader xml) throws XMLStreamException {
+        for (int depth = 1; depth > 0 && xml.hasNext(); ) {
+            int event = xml.next();
+            if (event == START_ELEMENT) {
+                depth++;
+            } else if (event == END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * @return 0-based row index from "r" attribute or previous row index plus one if attribute is absent
+     */
+    private static int getRowNum(XMLStreamReader rowElement, int previousRowNum) {
+        @Nullable String r = rowElement.getAttributeValue(null, "r");
+        return (r == null) ? (previousRowNum + 1) : (Integer.parseInt(r) - 1);
+    }
+
+    /**
+     * @param cellRef cell reference, for example "AB12"
+     * @return 0-based column index
+     */
+    static int getColumnIndex(String cellRef) {
+        int column = 0;
+        for (int i = 0, n = cellRef.length(); i < n; i++) {
+            char c = cellRef.charAt(i);
+            if (c < 'A' || c > 'Z') break;
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private static boolean isTrue(@Nullable String xmlBoolean) {
+        return "1".equals(xmlBoolean) || "true".equals(xmlBoolean);
+    }
+
+    @Override
+    void rewind() throws IOException {
+        closeReader();
+    }
+
+    private void closeReader() throws IOException {
+        try {
+            @Nullable XMLStreamReader xml = this.reader;
+            if (xml != null) {
+                xml.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Can't close sheet xml reader", e);
+        } finally {
+            this.reader = null;
+            @Nullable InputStream in = this.input;
+            this.input = null;
+            if (in != null) {
+                in.close();
+            }
+        }
+    }
+
+    @Override
+    void closeSource() throws IOException {
+        try {
+            closeReader();
+        } finally {
+            xlsx.revert();  // close() method of read only package logs warning
+            if (sharedStrings instanceof OffHeapSharedStrings) {
+                ((OffHeapSharedStrings) sharedStrings).close();
+            }
+        }
+    }
+
+    /**
+     * Storage of the workbook shared strings table, which contains string cell values.
+     */
+    public enum SharedStringsStorage {
+        /**
+         * Strings are kept on java heap as String objects.
+         */
+        HEAP,
+        /**
+         * Strings are kept UTF-8 encoded in a memory mapped temporary file, only string offsets are kept on heap.
+         * Reduces heap usage for workbooks with large number of unique strings.
+         */
+        OFF_HEAP
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
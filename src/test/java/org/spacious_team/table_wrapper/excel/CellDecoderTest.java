@@ -0,0 +1,90 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.excel.CellDecoder.*;
+
+class CellDecoderTest {
+
+    static Workbook workbook = new XSSFWorkbook();
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        workbook.close();
+    }
+
+    @Test
+    void decode() {
+        Row row = workbook.createSheet().createRow(0);
+        row.createCell(0).setCellValue("a");
+        row.createCell(1).setCellValue(1.5);
+        row.createCell(2).setCellValue(true);
+        row.createCell(3).setCellErrorValue(FormulaError.NA.getCode());
+        row.createCell(4).setCellFormula("1+2");
+        row.createCell(5);
+        workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+
+        assertDecoded(row.getCell(0), STRING, 0, "a");
+        assertDecoded(row.getCell(1), NUMERIC, 1.5, null);
+        assertDecoded(row.getCell(2), BOOLEAN, 1, null);
+        assertDecoded(row.getCell(3), ERROR, FormulaError.NA.getCode(), null);
+        assertDecoded(row.getCell(4), NUMERIC, 3, null);
+        assertDecoded(row.getCell(5), BLANK, 0, null);
+    }
+
+    @Test
+    void setValue() {
+        Row row = workbook.createSheet().createRow(0);
+        Cell[] cells = new Cell[5];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = row.createCell(i);
+        }
+
+        CellDecoder.setValue(cells[0], STRING, 0, "a");
+        CellDecoder.setValue(cells[1], NUMERIC, 1.5, null);
+        CellDecoder.setValue(cells[2], BOOLEAN, 1, null);
+        CellDecoder.setValue(cells[3], ERROR, FormulaError.NA.getCode(), null);
+        CellDecoder.setValue(cells[4], BLANK, 0, null);
+
+        assertDecoded(cells[0], STRING, 0, "a");
+        assertDecoded(cells[1], NUMERIC, 1.5, null);
+        assertDecoded(cells[2], BOOLEAN, 1, null);
+        assertDecoded(cells[3], ERROR, FormulaError.NA.getCode(), null);
+        assertDecoded(cells[4], BLANK, 0, null);
+    }
+
+    private static void assertDecoded(Cell cell, byte type, double number, @Nullable String string) {
+        assertEquals(type, getType(cell));
+        assertEquals(number, getNumber(cell, type));
+        assertEquals(string, getString(cell, type));
+    }
+}
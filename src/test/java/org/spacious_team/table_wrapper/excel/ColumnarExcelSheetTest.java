@@ -0,0 +1,166 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarExcelSheetTest {
+
+    static Workbook workbook = new XSSFWorkbook();
+    static final LocalDateTime dateTime = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        workbook.close();
+    }
+
+    @Test
+    void find() {
+        ColumnarExcelSheet reportPage = new ColumnarExcelSheet(getTestSheet());
+
+        assertEquals(TableCellAddress.of(0, 1), reportPage.find("12", 0, 2, 0, 2));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("12", 1, 2, 0, 2));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("12", 0, 2, 2, 3));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("xyz", 0, 2, 0, 2));
+        assertEquals(TableCellAddress.of(1, 0), reportPage.find(21, 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(1, 0), reportPage.find(21.0000001, 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(3, 0), reportPage.find(true, 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(3, 1), reportPage.find(dateTime, 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(3, 1), reportPage.find(dateTime.toLocalDate(), 0, 5, 0, 5));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find(LocalDate.now(), 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(3, 2), reportPage.find("", 0, 5, 0, 5));  // blank cell matches empty string
+    }
+
+    @Test
+    void findAll() {
+        ColumnarExcelSheet reportPage = new ColumnarExcelSheet(getTestSheet());
+
+        Map<@Nullable Object, TableCellAddress> actual = reportPage.findAll(Arrays.asList("12", 21, true, "xyz"));
+
+        assertEquals(TableCellAddress.of(0, 1), actual.get("12"));
+        assertEquals(TableCellAddress.of(1, 0), actual.get(21));
+        assertEquals(TableCellAddress.of(3, 0), actual.get(true));
+        assertEquals(TableCellAddress.NOT_FOUND, actual.get("xyz"));
+    }
+
+    @Test
+    void find_formula() {
+        Sheet sheet = workbook.createSheet();
+        Cell cell = sheet.createRow(0).createCell(0);
+        cell.setCellFormula("20+2");
+        workbook.getCreationHelper()
+                .createFormulaEvaluator()
+                .evaluateFormulaCell(cell);
+        Cell error = sheet.getRow(0).createCell(1);
+        error.setCellErrorValue((byte) 7);
+        ColumnarExcelSheet reportPage = new ColumnarExcelSheet(sheet);
+
+        assertEquals(TableCellAddress.of(0, 0), reportPage.find(22, 0, 1, 0, 2));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("#DIV/0!", 0, 1, 0, 2));
+        assertThrows(ArithmeticException.class, () -> reportPage.getCellValue(0, 1));
+    }
+
+    @Test
+    void findByPredicate() {
+        ColumnarExcelSheet reportPage = new ColumnarExcelSheet(getTestSheet());
+
+        assertEquals(TableCellAddress.of(0, 1), reportPage.find(0, 2, 0, 2, "12"::equals));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find(1, 2, 0, 2, "12"::equals));
+        assertEquals(TableCellAddress.of(1, 0), reportPage.find(0, 2, 0, 2, Double.valueOf(21)::equals));
+    }
+
+    @Test
+    void getCellValue() {
+        ColumnarExcelSheet reportPage = new ColumnarExcelSheet(getTestSheet());
+
+        assertEquals("11", reportPage.getCellValue(0, 0));
+        assertEquals(21.0, reportPage.getCellValue(1, 0));
+        assertEquals(true, reportPage.getCellValue(3, 0));
+        assertNull(reportPage.getCellValue(3, 2));
+        assertNull(reportPage.getCellValue(3, 100));
+        assertNull(reportPage.getCellValue(2, 0));
+        assertNull(reportPage.getCellValue(-1, 0));
+    }
+
+    @Test
+    void getRow() {
+        ColumnarExcelSheet reportPage = new ColumnarExcelSheet(getTestSheet());
+
+        assertNotNull(reportPage.getRow(1));
+        assertNull(reportPage.getRow(2));
+        assertNull(reportPage.getRow(-1));
+        assertNull(reportPage.getRow(100));
+    }
+
+    @Test
+    void getLastRowNum() {
+        assertEquals(3, new ColumnarExcelSheet(getTestSheet()).getLastRowNum());
+        assertEquals(-1, new ColumnarExcelSheet(workbook.createSheet()).getLastRowNum());
+    }
+
+    @Test
+    void findEmptyRow() {
+        Sheet sheet = getTestSheet();
+        sheet.createRow(4).createCell(0).setCellValue("");
+        sheet.createRow(5).createCell(0).setCellValue("50");
+        ColumnarExcelSheet reportPage = new ColumnarExcelSheet(sheet);
+
+        assertEquals(2, reportPage.findEmptyRow(0, Integer.MAX_VALUE));
+        assertEquals(4, reportPage.findEmptyRow(3, Integer.MAX_VALUE));
+        assertEquals(-1, reportPage.findEmptyRow(3, 4));
+        assertEquals(-1, reportPage.findEmptyRow(5, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void findEmptyRow_onEmptySheet() {
+        ColumnarExcelSheet reportPage = new ColumnarExcelSheet(workbook.createSheet());
+
+        assertEquals(-1, reportPage.findEmptyRow(0, Integer.MAX_VALUE));
+    }
+
+    Sheet getTestSheet() {
+        Sheet sheet = workbook.createSheet();
+        sheet.createRow(0).createCell(0).setCellValue("11");
+        sheet.getRow(0).createCell(1).setCellValue("12");
+        sheet.createRow(1).createCell(0).setCellValue(21);
+        sheet.getRow(1).createCell(1).setCellValue("22");
+        Row row = sheet.createRow(3);
+        row.createCell(0).setCellValue(true);
+        row.createCell(1).setCellValue(dateTime);
+        row.createCell(2);  // blank
+        row.createCell(3).setCellValue("");
+        return sheet;
+    }
+}
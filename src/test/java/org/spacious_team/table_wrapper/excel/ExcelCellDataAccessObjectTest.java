@@ -20,16 +20,25 @@ package org.spacious_team.table_wrapper.excel;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,6 +68,23 @@ class ExcelCellDataAccessObjectTest {
         verify(dao).getDoubleValue(cell);
     }
 
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.0, 1, -1, 1023, 1024, 1.1, -1.1, 0.001, -0.001, 0.0001, 0.05, 123456.78, 9999999.99,
+            1e7, 12345678.5, 0.123456789, 1.0 / 3, 1e20, 1e-20, Double.MAX_VALUE, Double.MIN_VALUE})
+    void getBigDecimalValue_sameAsBigDecimalValueOf(double number) {
+        doReturn(number).when(dao).getDoubleValue(cell);
+
+        BigDecimal actual = dao.getBigDecimalValue(cell);
+
+        assertEquals(BigDecimal.valueOf(number), actual);  // with the same scale
+    }
+
+    @Test
+    void getBigDecimalValue_zero() {
+        doReturn(0.0).when(dao).getDoubleValue(cell);
+        assertSame(BigDecimal.ZERO, dao.getBigDecimalValue(cell));
+    }
+
     @Test
     void getStringValue() {
         doReturn("test").when(dao).getValue(cell);
@@ -71,6 +97,26 @@ class ExcelCellDataAccessObjectTest {
         assertEquals("1", dao.getStringValue(cell));
     }
 
+    @ParameterizedTest
+    @ValueSource(doubles = {0, -0.0, 1, -1, 1.5, -1.5, 0.001, 0.0001, 123456.75, 9999999, 10000000, -10000000,
+            12345678.5, 1e20, 1e-20, Long.MAX_VALUE, Long.MIN_VALUE, Double.MAX_VALUE, Double.MIN_VALUE,
+            Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+    void getStringValue_sameAsDoubleToString(double number) {
+        doReturn(number).when(dao).getValue(cell);
+
+        String expected = Double.toString(number);
+        if (expected.endsWith(".0")) {
+            expected = expected.substring(0, expected.length() - 2);
+        }
+        assertEquals(expected, dao.getStringValue(cell));
+    }
+
+    @Test
+    void getStringValue_otherNumber() {
+        doReturn(1.0f).when(dao).getValue(cell);
+        assertEquals("1", dao.getStringValue(cell));
+    }
+
     @Test
     void getInstantValue() {
         Date date = new Date();
@@ -87,4 +133,31 @@ class ExcelCellDataAccessObjectTest {
         dao.getLocalDateTimeValue(cell);
         verify(cell).getLocalDateTimeCellValue();
     }
+
+    @Test
+    void getDateValues_numericCell() throws IOException {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            Cell numericCell = workbook.createSheet().createRow(0).createCell(0);
+            LocalDateTime dateTime = LocalDateTime.of(2026, 3, 29, 2, 30, 15, 125_000_000);
+            numericCell.setCellValue(dateTime);
+
+            assertEquals(numericCell.getLocalDateTimeCellValue(), dao.getLocalDateTimeValue(numericCell));
+            assertEquals(numericCell.getDateCellValue().toInstant(), dao.getInstantValue(numericCell));
+            assertEquals(dateTime.toInstant(ZoneOffset.ofHours(3)),
+                    ExcelCellDataAccessObject.of(ZoneOffset.ofHours(3)).getInstantValue(numericCell));
+        }
+    }
+
+    @Test
+    void getInstantValue_zone() throws IOException {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            Cell formulaCell = workbook.createSheet().createRow(0).createCell(0);
+            formulaCell.setCellFormula("DATE(2026,1,2)");
+            formulaCell.setCellValue(LocalDateTime.of(2026, 1, 2, 0, 0));  // cached formula result
+            ZoneId zone = ZoneId.of("Asia/Tokyo");
+
+            assertEquals(LocalDateTime.of(2026, 1, 2, 0, 0).atZone(zone).toInstant(),
+                    ExcelCellDataAccessObject.of(zone).getInstantValue(formulaCell));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelColumnReaderTest {
+
+    static Workbook workbook = new XSSFWorkbook();
+    static final LocalDate date = LocalDate.of(2026, 1, 2);
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        workbook.close();
+    }
+
+    @Test
+    void readDoubles() {
+        ExcelColumnReader reader = ExcelColumnReader.of(new ExcelSheet(getTestSheet()));
+        BitSet nulls = new BitSet();
+        nulls.set(100);
+
+        double[] values = reader.readDoubles(0, 0, Integer.MAX_VALUE, nulls);
+
+        assertArrayEquals(new double[]{1.5, 0, 2, 0, 0, 22}, values);
+        assertEquals(bitSet(1, 3, 4), nulls);
+    }
+
+    @Test
+    void readLongs() {
+        ExcelColumnReader reader = ExcelColumnReader.of(new ExcelSheet(getTestSheet()));
+        BitSet nulls = new BitSet();
+
+        long[] values = reader.readLongs(0, 2, 6, nulls);
+
+        assertArrayEquals(new long[]{2, 0, 0, 22}, values);
+        assertEquals(bitSet(1, 2), nulls);
+    }
+
+    @Test
+    void readEpochDays() {
+        ExcelColumnReader reader = ExcelColumnReader.of(new ExcelSheet(getTestSheet()));
+        BitSet nulls = new BitSet();
+
+        int[] values = reader.readEpochDays(1, 0, 3, nulls);
+
+        assertArrayEquals(new int[]{(int) date.toEpochDay(), 0, (int) date.plusDays(1).toEpochDay()}, values);
+        assertEquals(bitSet(1), nulls);
+    }
+
+    @Test
+    void readStrings() {
+        ExcelColumnReader reader = ExcelColumnReader.of(new ExcelSheet(getTestSheet()));
+
+        assertArrayEquals(new String[]{"1.5", null, "2", null, "", "22"}, reader.readStrings(0, 0, 100));
+        assertArrayEquals(new String[0], reader.readStrings(0, 10, 100));
+    }
+
+    @Test
+    void readStrings_emptyString() {
+        Sheet sheet = workbook.createSheet();
+        sheet.createRow(0).createCell(0).setCellValue("");
+        sheet.getRow(0).createCell(1).setCellValue("");
+        ExcelColumnReader reader = ExcelColumnReader.of(new ExcelSheet(sheet));
+        BitSet nulls = new BitSet();
+
+        assertArrayEquals(new String[]{""}, reader.readStrings(0, 0, 1));
+        assertArrayEquals(new long[]{0}, reader.readLongs(1, 0, 1, nulls));
+        assertEquals(bitSet(0), nulls);
+    }
+
+    @Test
+    void readDoubles_error() {
+        Sheet sheet = workbook.createSheet();
+        sheet.createRow(0).createCell(0).setCellErrorValue((byte) 7);
+        ExcelColumnReader reader = ExcelColumnReader.of(new ExcelSheet(sheet));
+
+        assertThrows(ArithmeticException.class, () -> reader.readDoubles(0, 0, 1, new BitSet()));
+    }
+
+    private static BitSet bitSet(int... indexes) {
+        BitSet bitSet = new BitSet();
+        for (int i : indexes) {
+            bitSet.set(i);
+        }
+        return bitSet;
+    }
+
+    Sheet getTestSheet() {
+        Sheet sheet = workbook.createSheet();
+        sheet.createRow(0).createCell(0).setCellValue(1.5);
+        sheet.getRow(0).createCell(1).setCellValue(date);
+        sheet.createRow(1).createCell(0);  // blank
+        sheet.createRow(2).createCell(0).setCellValue("2");
+        sheet.getRow(2).createCell(1).setCellValue(date.plusDays(1).atStartOfDay());
+        // row 3 is absent
+        sheet.createRow(4).createCell(0).setCellValue("");
+        Cell formula = sheet.createRow(5).createCell(0);
+        formula.setCellFormula("20+2");
+        workbook.getCreationHelper()
+                .createFormulaEvaluator()
+                .evaluateFormulaCell(formula);
+        return sheet;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.LocaleUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelDatesTest {
+
+    static final double DAY_END = 1 - 0.5 / 86_400_000;  // rounded up to the next day
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, 0.5, 1, 59, 59.999, 60, 60.5, 61, 366, 1462, 25569, 46023.25, 46023.999999,
+            46023 + DAY_END, 46023 + 1.0 / 3, 2_958_465.99999999, 0.0000000001})
+    void toLocalDateTime(double serial) {
+        assertEquals(DateUtil.getLocalDateTime(serial, false), ExcelDates.toLocalDateTime(serial, false));
+        assertEquals(DateUtil.getLocalDateTime(serial, true), ExcelDates.toLocalDateTime(serial, true));
+    }
+
+    @Test
+    void toLocalDateTime_leapYearBug() {
+        assertEquals(LocalDateTime.of(1900, 2, 28, 0, 0), ExcelDates.toLocalDateTime(59, false));
+        assertEquals(LocalDateTime.of(1900, 3, 1, 0, 0), ExcelDates.toLocalDateTime(60, false));
+        assertEquals(LocalDateTime.of(1900, 3, 1, 0, 0), ExcelDates.toLocalDateTime(61, false));
+        assertEquals(LocalDateTime.of(1904, 1, 1, 0, 0), ExcelDates.toLocalDateTime(0, true));
+        assertEquals(LocalDateTime.of(1970, 1, 1, 12, 0), ExcelDates.toLocalDateTime(25569.5, false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTC", "GMT+03:00", "Europe/Moscow", "America/New_York", "Australia/Lord_Howe"})
+    void toInstant(String zone) {
+        TimeZone timeZone = TimeZone.getTimeZone(zone);
+        ZoneId zoneId = timeZone.toZoneId();
+        Random random = new Random(zone.hashCode());
+        for (int i = 0; i < 100_000; i++) {
+            double serial = random.nextDouble() * 80_000;
+            boolean isDate1904 = random.nextBoolean();
+            Instant expected = DateUtil.getJavaDate(serial, isDate1904, timeZone).toInstant();
+            assertEquals(expected, ExcelDates.toInstant(serial, isDate1904, zoneId), () -> serial + " " + isDate1904);
+        }
+    }
+
+    @Test
+    void toInstant_daylightSavingTime() {
+        TimeZone timeZone = TimeZone.getTimeZone("America/New_York");
+        double overlap = 44136 + 1.5 / 24;  // 2020-11-01T01:30 occurs twice
+        double gap = 43898 + 2.5 / 24;  // 2020-03-08T02:30 doesn't exist
+        for (double serial : new double[]{overlap, gap}) {
+            Instant expected = DateUtil.getJavaDate(serial, false, timeZone).toInstant();
+            assertEquals(expected, ExcelDates.toInstant(serial, false, timeZone.toZoneId()));
+        }
+        assertEquals(Instant.parse("2020-11-01T06:30:00Z"), ExcelDates.toInstant(overlap, false, timeZone.toZoneId()));
+    }
+
+    @Test
+    void toInstant_fixedOffset() {
+        assertEquals(Instant.parse("1970-01-01T09:00:00Z"),
+                ExcelDates.toInstant(25569.5, false, ZoneOffset.ofHours(3)));
+    }
+
+    @Test
+    void isValid() {
+        assertTrue(ExcelDates.isValid(0));
+        assertTrue(ExcelDates.isValid(-0.0));
+        assertFalse(ExcelDates.isValid(-1e-10));
+        assertEquals(DateUtil.isValidExcelDate(-Double.MIN_VALUE), ExcelDates.isValid(-Double.MIN_VALUE));
+    }
+
+    @Test
+    void getUserZoneId() {
+        try {
+            LocaleUtil.setUserTimeZone(TimeZone.getTimeZone("Asia/Tokyo"));
+            assertEquals(ZoneId.of("Asia/Tokyo"), ExcelDates.getUserZoneId());
+            LocaleUtil.setUserTimeZone(TimeZone.getTimeZone("UTC"));
+            assertEquals(ZoneId.of("UTC"), ExcelDates.getUserZoneId());
+        } finally {
+            LocaleUtil.resetUserTimeZone();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelMetricsTest {
+
+    static Workbook workbook = new XSSFWorkbook();
+    static Sheet sheet = workbook.createSheet();
+    final List<String> events = new ArrayList<>();
+
+    static {
+        for (int i = 0; i < 3; i++) {
+            sheet.createRow(i).createCell(0).setCellValue("value " + i);
+        }
+        sheet.getRow(2).createCell(1).setCellErrorValue(FormulaError.DIV0.getCode());
+    }
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        workbook.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        ExcelMetrics.setListener(new ExcelMetricsListener() {
+            @Override
+            public void onFind(int scannedRows, int scannedCells, boolean isFound, long durationNanos) {
+                assertTrue(durationNanos >= 0);
+                events.add("find " + scannedRows + " " + scannedCells + " " + isFound);
+            }
+
+            @Override
+            public void onRowCreated(int rowNum) {
+                events.add("row " + rowNum);
+            }
+
+            @Override
+            public void onRowCacheAccess(boolean isHit) {
+                events.add(isHit ? "hit" : "miss");
+            }
+
+            @Override
+            public void onErrorCell(Cell cell) {
+                events.add("error " + cell.getAddress());
+            }
+
+            @Override
+            public void onDateConversionFallback(Cell cell) {
+                events.add("fallback " + cell.getAddress());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        ExcelMetrics.setListener(null);
+    }
+
+    @Test
+    void onFind() {
+        ExcelSheet excelSheet = new ExcelSheet(sheet);
+
+        assertEquals(TableCellAddress.of(1, 0), excelSheet.find("value 1"));
+        assertEquals(TableCellAddress.NOT_FOUND, excelSheet.find("value 3", 0, 10, 0, 1));
+
+        assertEquals(List.of("find 2 2 true", "find 3 3 false"), events);
+    }
+
+    @Test
+    void onFind_valueIndex() {
+        ExcelSheet excelSheet = new ExcelSheet(sheet);
+        excelSheet.enableValueIndex();
+
+        assertEquals(TableCellAddress.of(1, 0), excelSheet.find("value 1"));
+        assertEquals(TableCellAddress.NOT_FOUND, excelSheet.findByPrefix("value 3"));
+
+        assertEquals(List.of("find 0 0 true", "find 0 0 false"), getFindEvents());
+    }
+
+    @Test
+    void onFind_columnarSheet() {
+        ColumnarExcelSheet columnarSheet = new ColumnarExcelSheet(sheet);
+
+        assertEquals(TableCellAddress.of(1, 0), columnarSheet.find("value 1"));
+        assertEquals(TableCellAddress.NOT_FOUND, columnarSheet.find("value 3", 0, 10, 0, 1));
+
+        assertEquals(List.of("find 2 2 true", "find 3 3 false"), getFindEvents());
+    }
+
+    private List<String> getFindEvents() {
+        return events.stream()
+                .filter(event -> event.startsWith("find "))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void onRowCreated() {
+        ExcelSheet excelSheet = new ExcelSheet(sheet);
+        excelSheet.enableRowCache(10);
+
+        excelSheet.getRow(1);
+        excelSheet.getRow(1);
+        excelSheet.getRow(5);
+
+        assertEquals(List.of("miss", "row 1", "hit", "miss"), events);
+    }
+
+    @Test
+    void onErrorCell() {
+        Cell cell = sheet.getRow(2).getCell(1);
+
+        assertThrows(ArithmeticException.class, () -> ExcelCellDataAccessObject.INSTANCE.getValue(cell));
+
+        assertEquals(List.of("error B3"), events);
+    }
+
+    @Test
+    void onDateConversionFallback() {
+        Cell cell = sheet.getRow(0).getCell(0);
+
+        assertThrows(IllegalStateException.class, () -> ExcelCellDataAccessObject.INSTANCE.getLocalDateTimeValue(cell));
+
+        assertEquals(List.of("fallback A1"), events);
+    }
+
+    @Test
+    void disabled() {
+        ExcelMetrics.setListener(null);
+
+        new ExcelSheet(sheet).find("value 1");
+
+        assertNull(ExcelMetrics.getListener());
+        assertTrue(events.isEmpty());
+    }
+}
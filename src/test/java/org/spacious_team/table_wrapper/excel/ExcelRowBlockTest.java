@@ -0,0 +1,143 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.excel.ExcelRowBlock.*;
+
+class ExcelRowBlockTest {
+
+    static Workbook workbook = new XSSFWorkbook();
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        workbook.close();
+    }
+
+    @Test
+    void readRows() {
+        Sheet sheet = workbook.createSheet();
+        Row row0 = sheet.createRow(0);
+        row0.createCell(0).setCellValue("a");
+        row0.createCell(1).setCellValue(1.5);
+        row0.createCell(2).setCellValue(true);
+        row0.createCell(3).setCellErrorValue(FormulaError.NA.getCode());
+        row0.createCell(10).setCellValue("out of range");
+        Row row2 = sheet.createRow(2);
+        row2.createCell(1).setCellFormula("1+2");
+        row2.createCell(2);  // blank
+        workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+        List<String> blocks = new ArrayList<>();
+
+        new ExcelSheet(sheet).readRows(0, 10, 0, 4, block -> {
+            assertEquals(0, block.getFirstRowNum());
+            assertEquals(3, block.getRowCount());
+            assertEquals(0, block.getFirstColumn());
+            assertEquals(4, block.getColumnCount());
+            assertTrue(block.hasRow(0));
+            assertFalse(block.hasRow(1));
+            assertTrue(block.hasRow(2));
+            assertEquals(STRING, block.getType(0, 0));
+            assertEquals("a", block.getString(0, 0));
+            assertEquals(NUMERIC, block.getType(0, 1));
+            assertEquals(1.5, block.getNumber(0, 1));
+            assertEquals(BOOLEAN, block.getType(0, 2));
+            assertEquals(1, block.getNumber(0, 2));
+            assertEquals(ERROR, block.getType(0, 3));
+            assertEquals(FormulaError.NA.getCode(), block.getNumber(0, 3));
+            assertEquals(BLANK, block.getType(1, 0));
+            assertEquals(NUMERIC, block.getTypes()[2 * 4 + 1]);
+            assertEquals(3, block.getNumbers()[2 * 4 + 1]);
+            assertEquals(BLANK, block.getType(2, 2));
+            assertNull(block.getString(2, 2));
+            blocks.add(block.getFirstRowNum() + "+" + block.getRowCount());
+        });
+
+        assertEquals(List.of("0+3"), blocks);
+    }
+
+    @Test
+    void readRows_manyBlocks() {
+        Sheet sheet = workbook.createSheet();
+        for (int i = 0; i < 600; i++) {
+            sheet.createRow(i).createCell(1).setCellValue(i);
+        }
+        List<String> blocks = new ArrayList<>();
+        double[] sum = {0};
+
+        new ExcelSheet(sheet).readRows(10, 1000, 1, 2, block -> {
+            double[] numbers = block.getNumbers();
+            for (int i = 0; i < block.getRowCount(); i++) {
+                assertEquals(block.getFirstRowNum() + i, numbers[i]);
+                sum[0] += numbers[i];
+            }
+            blocks.add(block.getFirstRowNum() + "+" + block.getRowCount());
+        });
+
+        assertEquals(List.of("10+256", "266+256", "522+78"), blocks);
+        assertEquals((10 + 599) * 590 / 2.0, sum[0]);
+    }
+
+    @Test
+    void readRows_blockIsReused() {
+        Sheet sheet = workbook.createSheet();
+        sheet.createRow(0).createCell(0).setCellValue("a");
+        sheet.getRow(0).createCell(1).setCellValue(2.5);
+        sheet.createRow(300).createCell(1).setCellValue(1);
+        List<ExcelRowBlock> blocks = new ArrayList<>();
+
+        new ExcelSheet(sheet).readRows(0, Integer.MAX_VALUE, 0, 2, block -> {
+            if (block.getFirstRowNum() == 256) {
+                assertEquals(BLANK, block.getType(0, 0));  // cleared
+                assertNull(block.getString(0, 0));
+                assertEquals(BLANK, block.getType(0, 1));
+                assertEquals(0, block.getNumber(0, 1));
+                assertEquals(NUMERIC, block.getType(300 - 256, 1));
+            }
+            blocks.add(block);
+        });
+
+        assertEquals(2, blocks.size());
+        assertSame(blocks.get(0), blocks.get(1));
+    }
+
+    @Test
+    void readRows_emptyRange() {
+        Sheet sheet = workbook.createSheet();
+        sheet.createRow(0).createCell(0).setCellValue("a");
+        List<ExcelRowBlock> blocks = new ArrayList<>();
+
+        new ExcelSheet(sheet).readRows(5, 10, 0, 2, blocks::add);
+        new ExcelSheet(sheet).readRows(0, 0, 0, 2, blocks::add);
+
+        assertTrue(blocks.isEmpty());
+    }
+}
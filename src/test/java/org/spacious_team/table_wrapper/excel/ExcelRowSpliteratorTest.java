@@ -0,0 +1,90 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelRowSpliteratorTest {
+
+    static Workbook workbook = new XSSFWorkbook();
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        workbook.close();
+    }
+
+    @Test
+    void tryAdvance_skipsAbsentRows() {
+        Sheet sheet = getTestSheet(100);
+        ExcelRowSpliterator spliterator = new ExcelRowSpliterator(sheet::getRow, 5, 10, true);
+        List<Integer> rowNums = new ArrayList<>();
+
+        while (spliterator.tryAdvance(row -> rowNums.add(row.getRowNum()))) {
+        }
+
+        assertEquals(List.of(6, 8), rowNums);  // odd rows are absent
+        assertEquals(0, spliterator.estimateSize());
+    }
+
+    @Test
+    void trySplit() {
+        Sheet sheet = getTestSheet(100);
+        ExcelRowSpliterator spliterator = new ExcelRowSpliterator(sheet::getRow, 0, 100, true);
+
+        @Nullable Spliterator<ExcelTableRow> prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(50, prefix.estimateSize());
+        assertEquals(50, spliterator.estimateSize());
+        List<Integer> rowNums = new ArrayList<>();
+        prefix.forEachRemaining(row -> rowNums.add(row.getRowNum()));
+        spliterator.forEachRemaining(row -> rowNums.add(row.getRowNum()));
+        assertEquals(50, rowNums.size());
+        assertEquals(0, rowNums.get(0));
+        assertEquals(98, rowNums.get(49));
+    }
+
+    @Test
+    void trySplit_notSplittable() {
+        Sheet sheet = getTestSheet(100);
+
+        assertNull(new ExcelRowSpliterator(sheet::getRow, 0, 100, false).trySplit());
+        assertNull(new ExcelRowSpliterator(sheet::getRow, 0, 10, true).trySplit());  // too small
+    }
+
+    Sheet getTestSheet(int rows) {
+        Sheet sheet = workbook.createSheet();
+        for (int i = 0; i < rows; i += 2) {
+            sheet.createRow(i).createCell(0).setCellValue(i);
+        }
+        return sheet;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.excel.ExcelTestFiles.dateTime;
+import static org.spacious_team.table_wrapper.excel.ExcelTestFiles.getCell;
+
+class ExcelSheetLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"xlsx", "xls"})
+    void load(String extension) throws IOException {
+        ExcelSheet reportPage = ExcelSheetLoader.load(createTestFile(extension), 0);
+
+        assertInstanceOf(XSSFWorkbook.class, reportPage.getSheet().getWorkbook());  // not a buffer with temp file
+        assertEquals(6, reportPage.getLastRowNum());
+        @Nullable ExcelTableRow row = reportPage.getRow(4);  // random access
+        assertNotNull(row);
+        assertEquals("41", getCell(row, 1).getStringValue());
+        row = reportPage.getRow(0);
+        assertNotNull(row);
+        assertEquals("00", getCell(row, 0).getStringValue());
+        assertEquals(1, getCell(row, 1).getIntValue());
+        assertEquals(dateTime, getCell(row, 3).getLocalDateTimeValue());
+        assertNull(reportPage.getRow(1));
+        assertEquals(TableCellAddress.of(2, 0), reportPage.find("20"));
+        reportPage.getSheet().getWorkbook().close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"xlsx", "xls"})
+    void load_bySheetName(String extension) throws IOException {
+        ExcelSheet reportPage = ExcelSheetLoader.load(createTestFile(extension), "second");
+
+        @Nullable ExcelTableRow row = reportPage.getRow(0);
+        assertNotNull(row);
+        assertEquals("second sheet", getCell(row, 0).getStringValue());
+        assertEquals(0, reportPage.getLastRowNum());
+        reportPage.getSheet().getWorkbook().close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"xlsx", "xls"})
+    void load_sheetNotFound(String extension) throws IOException {
+        Path file = createTestFile(extension);
+        assertThrows(IllegalArgumentException.class, () -> ExcelSheetLoader.load(file, "unknown"));
+    }
+
+    @Test
+    void load_notExcelFile() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("test.txt"), "text");
+        assertThrows(IOException.class, () -> ExcelSheetLoader.load(file, 0));
+    }
+
+    Path createTestFile(String extension) throws IOException {
+        return ExcelTestFiles.createTestFile(tempDir.resolve("test." + extension));
+    }
+}
@@ -28,7 +28,12 @@ import org.spacious_team.table_wrapper.api.EmptyRowPredicate;
 import org.spacious_team.table_wrapper.api.TableCellAddress;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
@@ -72,6 +77,119 @@ class ExcelSheetTest {
                 reportPage.find(0, 2, 0, 2, "xyz"::equals));
     }
 
+    @Test
+    void find_valueIndex() {
+        Sheet worksheet = getTestSheet();
+        ExcelSheet reportPage = new ExcelSheet(worksheet);
+        reportPage.enableValueIndex();
+
+        assertEquals(TableCellAddress.of(0, 1),
+                reportPage.find("12", 0, 2, 0, 2));
+        assertEquals(TableCellAddress.NOT_FOUND,
+                reportPage.find("12", 1, 2, 0, 2));
+        assertEquals(TableCellAddress.of(1, 0),
+                reportPage.find(21, 0, 2, 0, 2));
+        assertEquals(TableCellAddress.of(1, 1),
+                reportPage.findByPrefix("2", 0, 2, 1, 2));
+        assertEquals(TableCellAddress.NOT_FOUND,
+                reportPage.find("xyz", 0, 2, 0, 2));
+    }
+
+    @Test
+    void findAll() {
+        ExcelSheet reportPage = new ExcelSheet(getTestSheet());
+
+        Map<@Nullable Object, TableCellAddress> actual = reportPage.findAll(Arrays.asList("12", 21, "xyz"));
+
+        assertEquals(TableCellAddress.of(0, 1), actual.get("12"));
+        assertEquals(TableCellAddress.of(1, 0), actual.get(21));
+        assertEquals(TableCellAddress.NOT_FOUND, actual.get("xyz"));
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.findAll(Arrays.asList("12"), 1, 2, 0, 2).get("12"));
+    }
+
+    @Test
+    void findAll_valueIndex() {
+        ExcelSheet reportPage = new ExcelSheet(getTestSheet());
+        reportPage.enableValueIndex();
+
+        Map<@Nullable Object, TableCellAddress> actual = reportPage.findAll(Arrays.asList("12", 21, "xyz"));
+
+        assertEquals(TableCellAddress.of(0, 1), actual.get("12"));
+        assertEquals(TableCellAddress.of(1, 0), actual.get(21));
+        assertEquals(TableCellAddress.NOT_FOUND, actual.get("xyz"));
+    }
+
+    @Test
+    void invalidateCaches() {
+        Sheet worksheet = getTestSheet();
+        ExcelSheet reportPage = new ExcelSheet(worksheet);
+        reportPage.enableValueIndex();
+        assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("xyz"));
+
+        worksheet.getRow(1).createCell(2).setCellValue("xyz");
+        reportPage.invalidateCaches();
+
+        assertEquals(TableCellAddress.of(1, 2), reportPage.find("xyz"));
+    }
+
+    @Test
+    void getRow_rowCache() {
+        Sheet sheet = spy(getTestSheet());
+        ExcelSheet reportPage = new ExcelSheet(sheet);
+        reportPage.enableRowCache(1);
+
+        @Nullable ExcelTableRow row0 = reportPage.getRow(0);
+        assertSame(row0, reportPage.getRow(0));
+        assertNotNull(reportPage.getRow(1));  // evicts row 0
+        assertNotSame(row0, reportPage.getRow(0));
+        assertNull(reportPage.getRow(2));
+
+        verify(sheet, times(2)).getRow(0);
+        assertEquals(1, reportPage.getRowCacheHitCount());
+        assertEquals(4, reportPage.getRowCacheMissCount());
+    }
+
+    @Test
+    void getRow_rowCacheInvalidated() {
+        Sheet worksheet = getTestSheet();
+        ExcelSheet reportPage = new ExcelSheet(worksheet);
+        reportPage.enableRowCache(10);
+        @Nullable ExcelTableRow row = reportPage.getRow(0);
+        assertNotNull(row);
+        assertEquals("11", requireNonNull(row.getCell(0)).getStringValue());
+
+        worksheet.getRow(0).getCell(0).setCellValue("xyz");
+        reportPage.invalidateCaches();
+        row = reportPage.getRow(0);
+
+        assertNotNull(row);
+        assertEquals("xyz", requireNonNull(row.getCell(0)).getStringValue());
+        assertEquals(0, reportPage.getRowCacheHitCount());
+        assertEquals(0, new ExcelSheet(worksheet).getRowCacheMissCount());
+    }
+
+    @Test
+    void stream() {
+        Sheet sheet = workbook.createSheet();
+        for (int i = 0; i < 1000; i++) {
+            sheet.createRow(i).createCell(0).setCellValue(i);
+        }
+        sheet.removeRow(sheet.getRow(500));
+        ExcelSheet reportPage = new ExcelSheet(sheet);
+
+        long sum = reportPage.stream()
+                .parallel()
+                .mapToLong(row -> requireNonNull(row.getCell(0)).getLongValue())
+                .sum();
+
+        assertEquals(999 * 1000 / 2 - 500, sum);
+        assertEquals(999, reportPage.stream().count());
+        assertEquals(List.of(1, 2), reportPage.stream(1, 3)
+                .map(ExcelTableRow::getRowNum)
+                .collect(Collectors.toList()));
+        assertEquals(0, reportPage.stream(1000, Integer.MAX_VALUE).count());
+    }
+
     @Test
     void getRow() {
         int row = 1;
@@ -174,6 +292,53 @@ class ExcelSheetTest {
         assertEquals(2, reportPage.findEmptyRow(0, Integer.MAX_VALUE));
     }
 
+    @Test
+    void findEmptyRow_rowsAreCheckedOnce() {
+        Sheet sheet = spy(getTestSheet());
+        sheet.createRow(3).createCell(0).setCellValue("30");
+        ExcelSheet reportPage = new ExcelSheet(sheet);
+        reportPage.enableEmptyRowCache();
+
+        assertEquals(2, reportPage.findEmptyRow(0, Integer.MAX_VALUE));
+        assertEquals(2, reportPage.findEmptyRow(0, Integer.MAX_VALUE));
+        assertEquals(2, reportPage.findEmptyRow(1, Integer.MAX_VALUE));
+        assertEquals(-1, reportPage.findEmptyRow(0, 2));
+        assertEquals(-1, reportPage.findEmptyRow(3, Integer.MAX_VALUE));
+        assertEquals(-1, reportPage.findEmptyRow(3, Integer.MAX_VALUE));
+
+        verify(sheet).getRow(0);
+        verify(sheet).getRow(1);
+        verify(sheet).getRow(2);
+        verify(sheet).getRow(3);
+    }
+
+    @Test
+    void findEmptyRow_invalidateCaches() {
+        Sheet sheet = getTestSheet();
+        ExcelSheet reportPage = new ExcelSheet(sheet);
+        reportPage.enableEmptyRowCache();
+        assertEquals(-1, reportPage.findEmptyRow(0, Integer.MAX_VALUE));
+        sheet.getRow(1).getCell(0).setBlank();
+        sheet.getRow(1).getCell(1).setBlank();
+        assertEquals(-1, reportPage.findEmptyRow(0, Integer.MAX_VALUE));  // cached
+
+        reportPage.invalidateCaches();
+
+        assertEquals(1, reportPage.findEmptyRow(0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void findEmptyRow_cacheIsDisabledByDefault() {
+        Sheet sheet = getTestSheet();
+        ExcelSheet reportPage = new ExcelSheet(sheet);
+        assertEquals(-1, reportPage.findEmptyRow(0, Integer.MAX_VALUE));
+
+        sheet.getRow(1).getCell(0).setBlank();
+        sheet.getRow(1).getCell(1).setBlank();
+
+        assertEquals(1, reportPage.findEmptyRow(0, Integer.MAX_VALUE));
+    }
+
     Sheet getTestSheet() {
         Sheet sheet = workbook.createSheet();
         sheet.createRow(0).createCell(0).setCellValue("11");
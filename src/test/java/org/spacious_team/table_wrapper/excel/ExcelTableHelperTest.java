@@ -19,15 +19,23 @@
 package org.spacious_team.table_wrapper.excel;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.spacious_team.table_wrapper.api.TableCellAddress;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -75,6 +83,116 @@ class ExcelTableHelperTest {
                 ExcelTableHelper.find(sheet, "00", 0, 3, -1, 0));
     }
 
+    @Test
+    void find_dates() {
+        LocalDateTime dateTime = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+        sheet.createRow(0).createCell(0).setCellValue(dateTime.minusDays(1));
+        sheet.getRow(0).createCell(1).setCellValue(dateTime);
+        sheet.createRow(1).createCell(0).setCellValue(dateTime.plusSeconds(1));
+        sheet.getRow(1).createCell(1).setCellValue(dateTime.toString());
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+
+        assertEquals(TableCellAddress.of(0, 1),
+                ExcelTableHelper.find(sheet, dateTime, 0, 2, 0, 2));
+        assertEquals(TableCellAddress.of(1, 0),
+                ExcelTableHelper.find(sheet, dateTime.plusSeconds(1), 0, 2, 0, 2));
+        assertEquals(TableCellAddress.of(0, 1),
+                ExcelTableHelper.find(sheet, instant, 0, 2, 0, 2));
+        assertEquals(TableCellAddress.of(0, 1),
+                ExcelTableHelper.find(sheet, Date.from(instant), 0, 2, 0, 2));
+        assertEquals(TableCellAddress.of(0, 1),
+                ExcelTableHelper.find(sheet, dateTime.toLocalDate(), 0, 2, 0, 2));
+        assertEquals(TableCellAddress.of(0, 0),
+                ExcelTableHelper.find(sheet, dateTime.toLocalDate().minusDays(1), 0, 2, 0, 2));
+        assertSame(TableCellAddress.NOT_FOUND,
+                ExcelTableHelper.find(sheet, dateTime.plusSeconds(2), 0, 2, 0, 2));
+        assertSame(TableCellAddress.NOT_FOUND,
+                ExcelTableHelper.find(sheet, dateTime.toLocalDate().plusDays(1), 0, 2, 0, 2));
+        assertSame(TableCellAddress.NOT_FOUND,
+                ExcelTableHelper.find(sheet, LocalDateTime.of(1800, 1, 1, 0, 0), 0, 2, 0, 2));
+    }
+
+    @Test
+    void find_otherTypes() {
+        sheet.createRow(0).createCell(0).setCellValue(true);
+        sheet.getRow(0).createCell(1).setCellValue("x");
+        sheet.getRow(0).createCell(2);
+
+        assertSame(TableCellAddress.NOT_FOUND,
+                ExcelTableHelper.find(sheet, false, 0, 1, 0, 3));
+        assertSame(TableCellAddress.NOT_FOUND,
+                ExcelTableHelper.find(sheet, 'x', 0, 1, 0, 3));
+        assertEquals(TableCellAddress.of(0, 1),
+                ExcelTableHelper.find(sheet, new StringBuilder("x"), 0, 1, 0, 3));
+        assertSame(TableCellAddress.NOT_FOUND,
+                ExcelTableHelper.find(sheet, new StringBuilder(), 0, 1, 0, 3));  // doesn't match blank, as before
+    }
+
+    @Test
+    void find_narrowColumnRange() {
+        Row row0 = sheet.createRow(0);
+        for (int column = 0; column < 100; column += 2) {
+            row0.createCell(column).setCellValue("0" + column);
+        }
+        Row row1 = sheet.createRow(1);
+        for (int column = 10; column < 100; column++) {
+            row1.createCell(column).setCellValue("1" + column);
+        }
+
+        assertEquals(TableCellAddress.of(0, 50),
+                ExcelTableHelper.find(sheet, "050", 0, 2, 50, 51));
+        assertEquals(TableCellAddress.of(1, 51),
+                ExcelTableHelper.find(sheet, "151", 0, 2, 51, 52));
+        assertEquals(TableCellAddress.of(1, 10),
+                ExcelTableHelper.find(sheet, "110", 0, 2, Integer.MIN_VALUE, 11));
+        assertEquals(TableCellAddress.of(1, 99),
+                ExcelTableHelper.find(sheet, "199", 0, 2, 95, Integer.MAX_VALUE));
+        assertSame(TableCellAddress.NOT_FOUND,
+                ExcelTableHelper.find(sheet, "050", 0, 2, 51, 52));
+        assertSame(TableCellAddress.NOT_FOUND,
+                ExcelTableHelper.find(sheet, "05", 0, 2, 0, 0));
+    }
+
+    @Test
+    void findAll() {
+        LocalDateTime dateTime = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+        sheet.createRow(0).createCell(0).setCellValue("00");
+        sheet.getRow(0).createCell(1).setCellValue(1);
+        sheet.createRow(1).createCell(0);  // blank
+        sheet.getRow(1).createCell(1).setCellValue(true);
+        sheet.createRow(2).createCell(0).setCellValue("");
+        sheet.getRow(2).createCell(1).setCellValue(dateTime);
+        sheet.getRow(2).createCell(2).setCellValue("00");
+
+        Map<@Nullable Object, TableCellAddress> actual = ExcelTableHelper.findAll(sheet::getRow, sheet.getLastRowNum(),
+                Arrays.asList("00", 1, 1.0000001, null, "", true, false, dateTime, "xyz"),
+                0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+
+        assertEquals(9, actual.size());
+        assertEquals(TableCellAddress.of(0, 0), actual.get("00"));
+        assertEquals(TableCellAddress.of(0, 1), actual.get(1));
+        assertEquals(TableCellAddress.of(0, 1), actual.get(1.0000001));
+        assertEquals(TableCellAddress.of(1, 0), actual.get(null));
+        assertEquals(TableCellAddress.of(1, 0), actual.get(""));
+        assertEquals(TableCellAddress.of(1, 1), actual.get(true));
+        assertEquals(TableCellAddress.NOT_FOUND, actual.get(false));
+        assertEquals(TableCellAddress.of(2, 1), actual.get(dateTime));
+        assertEquals(TableCellAddress.NOT_FOUND, actual.get("xyz"));
+    }
+
+    @Test
+    void findAll_range() {
+        sheet.createRow(0).createCell(0).setCellValue("00");
+        sheet.createRow(1).createCell(0).setCellValue("00");
+        sheet.getRow(1).createCell(1).setCellValue("11");
+
+        Map<@Nullable Object, TableCellAddress> actual = ExcelTableHelper.findAll(sheet::getRow, sheet.getLastRowNum(),
+                Arrays.asList("00", "11"), 1, 2, 0, 1);
+
+        assertEquals(TableCellAddress.of(1, 0), actual.get("00"));
+        assertEquals(TableCellAddress.NOT_FOUND, actual.get("11"));
+    }
+
     @Test
     void find_cellError() {
         sheet.createRow(0).createCell(0).setCellErrorValue((byte) 0);
@@ -41,6 +41,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Spliterators;
@@ -94,6 +95,44 @@ class ExcelTableRowTest {
         verify(wrappeeRow).getCell(0);
     }
 
+    @Test
+    void getCell_memoizing() {
+        wrappeeRow.createCell(0).setCellValue("a");
+        wrappeeRow.createCell(3).setCellValue(3);
+        ExcelTableRow memoizingRow = ExcelTableRow.memoizing(wrappeeRow);
+
+        @Nullable TableCell cell0 = memoizingRow.getCell(0);
+        @Nullable TableCell cell3 = memoizingRow.getCell(3);
+
+        assertInstanceOf(MemoizingExcelTableCell.class, cell0);
+        assertSame(cell0, memoizingRow.getCell(0));
+        assertSame(cell3, memoizingRow.getCell(3));
+        assertNull(memoizingRow.getCell(1));
+        assertEquals("a", cell0.getStringValue());
+        assertEquals(3, cell3.getIntValue());
+        Iterator<@Nullable TableCell> iterator = memoizingRow.iterator();
+        assertSame(cell0, iterator.next());
+        assertSame(cell3, iterator.next());
+        assertEquals(row, memoizingRow);
+    }
+
+    @Test
+    void getCell_reusableCell() {
+        wrappeeRow.createCell(0).setCellValue("a");
+        wrappeeRow.createCell(1).setCellValue("b");
+        ReusableExcelTableCell reusableCell = ReusableExcelTableCell.create();
+
+        @Nullable ReusableExcelTableCell cell0 = row.getCell(0, reusableCell);
+        assertSame(reusableCell, cell0);
+        assertEquals("a", reusableCell.getStringValue());
+
+        @Nullable ReusableExcelTableCell cell1 = row.getCell(1, reusableCell);
+        assertSame(reusableCell, cell1);
+        assertEquals("b", reusableCell.getStringValue());
+        assertEquals(1, reusableCell.getColumnIndex());
+        assertNull(row.getCell(2, reusableCell));
+    }
+
     @Test
     void getRowNum() {
         int rowNum = row.getRowNum();
@@ -190,6 +229,24 @@ class ExcelTableRowTest {
         wrappeeRow.createCell(i).setCellValue(date);
     }
 
+    @Test
+    void reusableCellIterator() {
+        wrappeeRow.createCell(0).setCellValue("a");
+        wrappeeRow.createCell(2).setCellValue(2);
+        Iterator<ReusableExcelTableCell> iterator = row.reusableCellIterator();
+
+        ReusableExcelTableCell cell = iterator.next();
+        assertEquals(0, cell.getColumnIndex());
+        assertEquals("a", cell.getStringValue());
+        ExcelTableCell retained = cell.toExcelTableCell();
+
+        assertSame(cell, iterator.next());
+        assertEquals(2, cell.getColumnIndex());
+        assertEquals(2, cell.getIntValue());
+        assertFalse(iterator.hasNext());
+        assertEquals("a", retained.getStringValue());
+    }
+
     @Test
     void iterator() {
         LocalDate localDate = LocalDate.of(2023, 4, 9);
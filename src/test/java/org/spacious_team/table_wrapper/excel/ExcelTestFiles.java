@@ -0,0 +1,93 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.table_wrapper.api.TableCell;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Test workbook files and assertion helpers shared by sheet tests
+ */
+final class ExcelTestFiles {
+
+    static final LocalDateTime dateTime = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+
+    private ExcelTestFiles() {
+    }
+
+    static TableCell getCell(ExcelTableRow row, int column) {
+        @Nullable TableCell cell = row.getCell(column);
+        assertNotNull(cell);
+        return cell;
+    }
+
+    /**
+     * Creates workbook with sheets "first", "second" and "empty". The first sheet contains values of all cell types
+     * in rows 0, 2, 3 and 4 with formula results in row 3, rows 5 and 6 are empty. Row 1 is absent.
+     *
+     * @param file xls or xlsx file
+     */
+    static Path createTestFile(Path file) throws IOException {
+        try (Workbook workbook = file.toString().endsWith(".xls") ? new HSSFWorkbook() : new XSSFWorkbook();
+             OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("first");
+            Row row0 = sheet.createRow(0);
+            row0.createCell(0).setCellValue("00");
+            row0.createCell(1).setCellValue(1);
+            row0.createCell(2).setCellValue(true);
+            row0.createCell(3).setCellValue(dateTime);
+            row0.createCell(4).setCellValue(1.5);
+            sheet.createRow(2).createCell(0).setCellValue("20");
+            Row row3 = sheet.createRow(3);
+            row3.createCell(0).setCellValue("30");
+            row3.createCell(1).setCellFormula("\"a\"&\"b\"");
+            row3.createCell(2).setCellFormula("1+2");
+            row3.createCell(3).setCellFormula("\"\"");
+            row3.createCell(4).setCellFormula("1/0");
+            Row row4 = sheet.createRow(4);
+            row4.createCell(0);  // blank
+            row4.createCell(1).setCellValue("41");
+            row4.createCell(2).setCellErrorValue(FormulaError.NA.getCode());
+            sheet.createRow(5);
+            sheet.createRow(6);
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            workbook.createSheet("second")
+                    .createRow(0)
+                    .createCell(0)
+                    .setCellValue("second sheet");
+            workbook.createSheet("empty");
+            workbook.write(out);
+        }
+        return file;
+    }
+}
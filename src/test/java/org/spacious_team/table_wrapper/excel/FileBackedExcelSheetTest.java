@@ -0,0 +1,154 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.excel.ExcelTestFiles.dateTime;
+import static org.spacious_team.table_wrapper.excel.ExcelTestFiles.getCell;
+
+class FileBackedExcelSheetTest {
+
+    static Workbook workbook = new XSSFWorkbook();
+
+    @TempDir
+    Path tempDir;
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        workbook.close();
+    }
+
+    @Test
+    void getRow() throws IOException {
+        try (FileBackedExcelSheet reportPage = FileBackedExcelSheet.of(new ExcelSheet(getTestSheet()))) {
+            @Nullable ExcelTableRow row = reportPage.getRow(0);
+
+            assertNotNull(row);
+            assertEquals("00", getCell(row, 0).getStringValue());
+            assertEquals(1, getCell(row, 1).getIntValue());
+            assertTrue((Boolean) getCell(row, 2).getValue());
+            assertEquals(dateTime, getCell(row, 3).getLocalDateTimeValue());
+            assertNull(getCell(row, 4).getValue());  // blank
+            assertEquals(22, getCell(row, 5).getIntValue());  // formula result
+            assertThrows(ArithmeticException.class, () -> getCell(row, 6).getValue());  // error
+            assertNull(reportPage.getRow(1));
+            assertNotNull(reportPage.getRow(2));
+            assertNull(reportPage.getRow(-1));
+            assertNull(reportPage.getRow(100));
+        }
+    }
+
+    @Test
+    void getRow_evictedRow() throws IOException {
+        try (FileBackedExcelSheet reportPage = FileBackedExcelSheet.of(new ExcelSheet(getTestSheet()), 2)) {
+            @Nullable ExcelTableRow row0 = reportPage.getRow(0);
+            assertNotNull(reportPage.getRow(2));
+            assertNotNull(reportPage.getRow(4));
+            assertNull(reportPage.getSheet().getRow(0));  // evicted from window
+
+            @Nullable ExcelTableRow row = reportPage.getRow(0);  // reread from file
+
+            assertNotNull(row0);
+            assertNotNull(row);
+            assertEquals("00", getCell(row0, 0).getStringValue());
+            assertEquals("00", getCell(row, 0).getStringValue());
+            assertEquals(2, reportPage.getSheet().getPhysicalNumberOfRows());
+        }
+    }
+
+    @Test
+    void getLastRowNum() throws IOException {
+        try (FileBackedExcelSheet reportPage = FileBackedExcelSheet.of(new ExcelSheet(getTestSheet()))) {
+            assertEquals(4, reportPage.getLastRowNum());
+        }
+        try (FileBackedExcelSheet reportPage = FileBackedExcelSheet.of(new ExcelSheet(workbook.createSheet()))) {
+            assertEquals(-1, reportPage.getLastRowNum());
+            assertNull(reportPage.getRow(0));
+        }
+    }
+
+    @Test
+    void find() throws IOException {
+        try (FileBackedExcelSheet reportPage = FileBackedExcelSheet.of(new ExcelSheet(getTestSheet()), 2)) {
+            assertEquals(TableCellAddress.of(4, 1), reportPage.find("41"));
+            assertEquals(TableCellAddress.of(0, 1), reportPage.find(1));
+            assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("41", 0, 4, 0, 2));
+            assertEquals(TableCellAddress.of(3, 0), reportPage.find(0, 5, 0, 1, "30"::equals));
+            assertEquals(1, reportPage.findEmptyRow(0, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void open() throws IOException {
+        Path file = tempDir.resolve("test.xlsx");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            getTestSheet().getWorkbook().write(out);
+        }
+        int sheetIndex = workbook.getNumberOfSheets() - 1;
+
+        try (FileBackedExcelSheet reportPage = FileBackedExcelSheet.open(file, sheetIndex)) {
+            assertEquals(TableCellAddress.of(4, 1), reportPage.find("41"));
+            @Nullable ExcelTableRow row = reportPage.getRow(0);
+            assertNotNull(row);
+            assertEquals(dateTime, getCell(row, 3).getLocalDateTimeValue());
+        }
+    }
+
+    @Test
+    void of_illegalRowWindowSize() {
+        ExcelSheet source = new ExcelSheet(getTestSheet());
+        assertThrows(IllegalArgumentException.class, () -> FileBackedExcelSheet.of(source, 0));
+    }
+
+    Sheet getTestSheet() {
+        Sheet sheet = workbook.createSheet();
+        Row row0 = sheet.createRow(0);
+        row0.createCell(0).setCellValue("00");
+        row0.createCell(1).setCellValue(1);
+        row0.createCell(2).setCellValue(true);
+        row0.createCell(3).setCellValue(dateTime);
+        row0.createCell(4);  // blank
+        Cell formula = row0.createCell(5);
+        formula.setCellFormula("20+2");
+        workbook.getCreationHelper()
+                .createFormulaEvaluator()
+                .evaluateFormulaCell(formula);
+        row0.createCell(6).setCellErrorValue((byte) 7);
+        sheet.createRow(2).createCell(0).setCellValue("20");
+        sheet.createRow(3).createCell(0).setCellValue("30");
+        sheet.createRow(4).createCell(1).setCellValue("41");
+        return sheet;
+    }
+}
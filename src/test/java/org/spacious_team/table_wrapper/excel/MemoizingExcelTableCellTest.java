@@ -0,0 +1,147 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MemoizingExcelTableCellTest {
+
+    static Workbook workbook = new XSSFWorkbook();
+    Cell wrappeeCell;
+    ExcelCellDataAccessObject dao;
+    MemoizingExcelTableCell cell;
+
+    @BeforeEach
+    void setUp() {
+        wrappeeCell = workbook.createSheet()
+                .createRow(10)
+                .createCell(20);
+        dao = spy(ExcelCellDataAccessObject.INSTANCE);
+        cell = MemoizingExcelTableCell.of(wrappeeCell, dao);
+    }
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        workbook.close();
+    }
+
+    @Test
+    void getColumnIndex() {
+        assertEquals(20, cell.getColumnIndex());
+    }
+
+    @Test
+    void getValue() {
+        wrappeeCell.setCellValue(1.5);
+
+        assertEquals(1.5, cell.getValue());
+        assertEquals(1.5, cell.getValue());
+        verify(dao, times(1)).getValue(wrappeeCell);
+    }
+
+    @Test
+    void getValue_null() {
+        assertNull(cell.getValue());
+        assertNull(cell.getValue());
+        verify(dao, times(1)).getValue(wrappeeCell);
+    }
+
+    @Test
+    void getDoubleValue() {
+        wrappeeCell.setCellValue(1.5);
+
+        assertEquals(1.5, cell.getDoubleValue());
+        assertEquals(1.5, cell.getDoubleValue());
+        verify(dao, times(1)).getDoubleValue(wrappeeCell);
+    }
+
+    @Test
+    void getStringValue() {
+        wrappeeCell.setCellValue(2.0);
+
+        assertEquals("2", cell.getStringValue());
+        assertEquals("2", cell.getStringValue());
+        verify(dao, times(1)).getStringValue(wrappeeCell);
+    }
+
+    @Test
+    void getBigDecimalValue() {
+        wrappeeCell.setCellValue(1.5);
+
+        assertEquals(BigDecimal.valueOf(1.5), cell.getBigDecimalValue());
+        assertEquals(BigDecimal.valueOf(1.5), cell.getBigDecimalValue());
+        verify(dao, times(1)).getBigDecimalValue(wrappeeCell);
+    }
+
+    @Test
+    void getStringValue_exceptionIsNotCached() {
+        assertThrows(NullPointerException.class, cell::getStringValue);
+
+        wrappeeCell.setCellValue("data");
+
+        assertEquals("data", cell.getStringValue());
+    }
+
+    @Test
+    void memoizing() {
+        ExcelTableCell excelTableCell = ExcelTableCell.of(wrappeeCell, dao);
+
+        MemoizingExcelTableCell actual = excelTableCell.memoizing();
+
+        assertEquals(cell, actual);
+        assertSame(dao, actual.getCellDataAccessObject());
+    }
+
+    @Test
+    void createWithCellDataAccessObject() {
+        ExcelCellDataAccessObject dao = mock(ExcelCellDataAccessObject.class);
+
+        MemoizingExcelTableCell actual = cell.createWithCellDataAccessObject(dao);
+
+        assertNotSame(cell, actual);
+        assertSame(dao, actual.getCellDataAccessObject());
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        EqualsVerifier
+                .forClass(MemoizingExcelTableCell.class)
+                .suppress(STRICT_INHERITANCE) // no subclass for test
+                .verify();
+    }
+
+    @Test
+    void testToString() {
+        wrappeeCell.setCellValue("data");
+        assertEquals("MemoizingExcelTableCell(value=data)", cell.toString());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MergedRegionIndexTest {
+
+    static Workbook workbook = new XSSFWorkbook();
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        workbook.close();
+    }
+
+    @Test
+    void find() {
+        CellRangeAddress wide = new CellRangeAddress(0, 0, 1, 5);
+        CellRangeAddress tall = new CellRangeAddress(0, 3, 0, 0);
+        CellRangeAddress square = new CellRangeAddress(2, 3, 2, 3);
+        MergedRegionIndex index = MergedRegionIndex.of(List.of(wide, tall, square));
+
+        assertSame(tall, index.find(0, 0));
+        assertSame(tall, index.find(3, 0));
+        assertSame(wide, index.find(0, 1));
+        assertSame(wide, index.find(0, 5));
+        assertSame(square, index.find(2, 2));
+        assertSame(square, index.find(3, 3));
+        assertNull(index.find(0, 6));
+        assertNull(index.find(1, 1));
+        assertNull(index.find(2, 1));
+        assertNull(index.find(2, 4));
+        assertNull(index.find(4, 0));
+        assertNull(index.find(-1, 0));
+        assertNull(index.find(0, -1));
+    }
+
+    @Test
+    void find_wholeColumnRegions() {
+        CellRangeAddress columnA = new CellRangeAddress(0, 1_048_575, 0, 0);
+        CellRangeAddress columnC = new CellRangeAddress(1, 1_048_575, 2, 2);
+        CellRangeAddress header = new CellRangeAddress(0, 0, 1, 3);
+        MergedRegionIndex index = MergedRegionIndex.of(List.of(columnA, columnC, header));
+
+        assertSame(columnA, index.find(1_000_000, 0));
+        assertSame(columnC, index.find(1_048_575, 2));
+        assertSame(header, index.find(0, 2));
+        assertNull(index.find(1_000_000, 1));
+        assertNull(index.find(1_000_000, 3));
+    }
+
+    @Test
+    void find_negativeRegionIsSkipped() {
+        MergedRegionIndex index = MergedRegionIndex.of(List.of(new CellRangeAddress(-1, 2, 0, 0)));
+        assertNull(index.find(1, 0));
+    }
+
+    @Test
+    void findInEmptyIndex() {
+        MergedRegionIndex index = MergedRegionIndex.of(List.of());
+        assertNull(index.find(0, 0));
+    }
+
+    @Test
+    void getValueCell() {
+        Sheet sheet = workbook.createSheet();
+        Row row0 = sheet.createRow(0);
+        row0.createCell(0).setCellValue("Header");
+        row0.createCell(2).setCellValue("Single");
+        Row row1 = sheet.createRow(1);
+        row1.createCell(0).setCellValue("a");
+        row1.createCell(1).setCellValue("b");
+        CellRangeAddress region = new CellRangeAddress(0, 0, 0, 1);
+        sheet.addMergedRegion(region);
+        ExcelSheet reportPage = new ExcelSheet(sheet);
+
+        assertEquals(region, reportPage.getMergedRegion(0, 1));
+        assertNull(reportPage.getMergedRegion(0, 2));
+        assertEquals("Header", requireNonNull(reportPage.getValueCell(0, 1)).getStringValue());
+        assertEquals("Single", requireNonNull(reportPage.getValueCell(0, 2)).getStringValue());
+        assertEquals("b", requireNonNull(reportPage.getValueCell(1, 1)).getStringValue());
+        assertNull(reportPage.getValueCell(0, 3));
+        assertNull(reportPage.getValueCell(5, 0));
+    }
+
+    @Test
+    void invalidateCaches() {
+        Sheet sheet = workbook.createSheet();
+        ExcelSheet reportPage = new ExcelSheet(sheet);
+        assertNull(reportPage.getMergedRegion(0, 0));
+
+        CellRangeAddress region = new CellRangeAddress(0, 1, 0, 1);
+        sheet.addMergedRegion(region);
+        assertNull(reportPage.getMergedRegion(1, 1));  // index is built
+        reportPage.invalidateCaches();
+
+        assertEquals(region, reportPage.getMergedRegion(1, 1));
+    }
+}
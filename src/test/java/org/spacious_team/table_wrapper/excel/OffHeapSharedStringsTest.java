@@ -0,0 +1,71 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapSharedStringsTest {
+
+    @Test
+    void getString() throws IOException, XMLStreamException {
+        String xml = "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" count=\"7\" uniqueCount=\"5\">" +
+                "<si><t>plain</t></si>" +
+                "<si><r><t>rich </t></r><r><rPr><b/></rPr><t>text</t></r></si>" +
+                "<si><t>漢字</t><rPh sb=\"0\" eb=\"2\"><t>かんじ</t></rPh></si>" +
+                "<si><t/></si>" +
+                "<si><t>line_x000D_break</t></si>" +
+                "</sst>";
+
+        try (OffHeapSharedStrings strings = OffHeapSharedStrings.of(new ByteArrayInputStream(xml.getBytes(UTF_8)))) {
+            assertEquals("plain", strings.getString(0));
+            assertEquals("rich text", strings.getString(1));
+            assertEquals("漢字", strings.getString(2));
+            assertEquals("", strings.getString(3));
+            assertEquals("line\rbreak", strings.getString(4));
+            assertEquals(5, strings.getUniqueCount());
+            assertEquals(7, strings.getCount());
+            assertThrows(IndexOutOfBoundsException.class, () -> strings.getString(5));
+            assertThrows(IndexOutOfBoundsException.class, () -> strings.getString(-1));
+        }
+    }
+
+    @Test
+    void getString_emptyTable() throws IOException, XMLStreamException {
+        String xml = "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"/>";
+
+        try (OffHeapSharedStrings strings = OffHeapSharedStrings.of(new ByteArrayInputStream(xml.getBytes(UTF_8)))) {
+            assertEquals(0, strings.getUniqueCount());
+            assertThrows(IndexOutOfBoundsException.class, () -> strings.getString(0));
+        }
+    }
+
+    @Test
+    void decodeUtfEscapes() {
+        assertEquals("abc", OffHeapSharedStrings.decodeUtfEscapes("abc"));
+        assertEquals("a\tb_x", OffHeapSharedStrings.decodeUtfEscapes("a_x0009_b_x"));
+        assertEquals("_x00G0_", OffHeapSharedStrings.decodeUtfEscapes("_x00G0_"));
+    }
+}
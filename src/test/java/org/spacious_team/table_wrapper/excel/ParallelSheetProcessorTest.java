@@ -0,0 +1,109 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelSheetProcessorTest {
+
+    Workbook workbook;
+    ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        workbook = new XSSFWorkbook();
+        for (int i = 0; i < 10; i++) {
+            workbook.createSheet("sheet " + i)
+                    .createRow(i)
+                    .createCell(0)
+                    .setCellValue("table " + i);
+        }
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        executor.shutdown();
+        workbook.close();
+    }
+
+    @Test
+    void process() {
+        List<TableCellAddress> actual = ParallelSheetProcessor.of(executor)
+                .process(workbook, reportPage -> reportPage.findByPrefix("table"));
+
+        assertEquals(10, actual.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(TableCellAddress.of(i, 0), actual.get(i));
+        }
+    }
+
+    @Test
+    void process_reportPageFactory() {
+        List<Boolean> actual = ParallelSheetProcessor.of(executor, ColumnarExcelSheet::new)
+                .process(workbook, reportPage -> reportPage instanceof ColumnarExcelSheet);
+
+        assertEquals(10, actual.size());
+        assertTrue(actual.stream().allMatch(Boolean::booleanValue));
+    }
+
+    @Test
+    void process_exception() {
+        ParallelSheetProcessor processor = ParallelSheetProcessor.of(executor);
+
+        assertThrows(IllegalStateException.class, () -> processor.process(workbook, reportPage -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    void processAsync_exception() {
+        ParallelSheetProcessor processor = ParallelSheetProcessor.of(executor);
+
+        CompletionException e = assertThrows(CompletionException.class, () -> processor
+                .processAsync(workbook, reportPage -> {
+                    throw new IllegalStateException();
+                })
+                .join());
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    void process_emptyWorkbook() throws IOException {
+        try (Workbook emptyWorkbook = new XSSFWorkbook()) {
+            List<Object> actual = ParallelSheetProcessor.create()
+                    .process(emptyWorkbook, reportPage -> reportPage);
+
+            assertTrue(actual.isEmpty());
+        }
+    }
+}
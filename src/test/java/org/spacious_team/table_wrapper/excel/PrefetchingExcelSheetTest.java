@@ -0,0 +1,176 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.excel.ExcelTestFiles.getCell;
+
+class PrefetchingExcelSheetTest {
+
+    static final int ROWS = 1000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void getRow() throws IOException {
+        try (PrefetchingExcelSheet reportPage = PrefetchingExcelSheet.of(XlsxStreamingSheet.open(createTestFile(), 0),
+                100, 7, 2)) {
+            assertEquals(ROWS, reportPage.getLastRowNum());
+            for (int i = 0; i < ROWS; i++) {
+                @Nullable ExcelTableRow row = reportPage.getRow(i);
+                if (i % 10 == 9) {
+                    assertNull(row);
+                } else {
+                    assertNotNull(row);
+                    assertEquals("row " + i, getCell(row, 0).getStringValue());
+                    assertEquals(i, getCell(row, 2).getIntValue());
+                    assertEquals(i % 2 == 0, getCell(row, 3).getValue());
+                }
+            }
+            @Nullable ExcelTableRow lastRow = reportPage.getRow(ROWS);
+            assertNotNull(lastRow);
+            assertThrows(ArithmeticException.class, () -> getCell(lastRow, 0).getValue());
+            assertNull(reportPage.getRow(ROWS + 1));
+        }
+    }
+
+    @Test
+    void getRow_evictedRow() throws IOException {
+        try (PrefetchingExcelSheet reportPage = PrefetchingExcelSheet.of(XlsxStreamingSheet.open(createTestFile(), 0),
+                2, 3, 1)) {
+            assertNotNull(reportPage.getRow(500));
+            assertNull(reportPage.getSheet().getRow(0));  // evicted from window
+
+            @Nullable ExcelTableRow row = reportPage.getRow(0);  // restarts producer
+
+            assertNotNull(row);
+            assertEquals("row 0", getCell(row, 0).getStringValue());
+        }
+    }
+
+    @Test
+    void find() throws IOException {
+        try (PrefetchingExcelSheet reportPage = PrefetchingExcelSheet.of(XlsxStreamingSheet.open(createTestFile(), 0))) {
+            assertEquals(TableCellAddress.of(777, 0), reportPage.find("row 777"));
+            assertEquals(TableCellAddress.of(3, 2), reportPage.find(3));
+            assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("row 9"));
+        }
+    }
+
+    @Test
+    void close_whileProducerWaits() throws IOException {
+        PrefetchingExcelSheet reportPage = PrefetchingExcelSheet.of(XlsxStreamingSheet.open(createTestFile(), 0),
+                10, 1, 1);
+        assertNotNull(reportPage.getRow(0));
+        reportPage.close();  // producer is blocked by full queue
+    }
+
+    @Test
+    void getRow_sourceError_rowsBeforeErrorAreRead() throws IOException {
+        try (PrefetchingExcelSheet reportPage = PrefetchingExcelSheet.of(new FailingSheet(3), 10, 10, 1)) {
+            @Nullable ExcelTableRow row = reportPage.getRow(2);
+            assertNotNull(row);
+            assertEquals("row 2", requireNonNull(row.getCell(0)).getStringValue());
+            assertThrows(UncheckedIOException.class, () -> reportPage.getRow(3));
+        }
+    }
+
+    @Test
+    void of_illegalArguments() throws IOException {
+        try (XlsxStreamingSheet source = XlsxStreamingSheet.open(createTestFile(), 0)) {
+            assertThrows(IllegalArgumentException.class, () -> PrefetchingExcelSheet.of(source, 10, 0, 1));
+            assertThrows(IllegalArgumentException.class, () -> PrefetchingExcelSheet.of(source, 10, 1, 0));
+        }
+    }
+
+    Path createTestFile() throws IOException {
+        Path file = tempDir.resolve("test.xlsx");
+        try (Workbook workbook = new XSSFWorkbook();
+             OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            for (int i = 0; i < ROWS; i++) {
+                if (i % 10 != 9) {
+                    Row row = sheet.createRow(i);
+                    row.createCell(0).setCellValue("row " + i);
+                    row.createCell(1);  // blank
+                    row.createCell(2).setCellValue(i);
+                    row.createCell(3).setCellValue(i % 2 == 0);
+                }
+            }
+            sheet.createRow(ROWS).createCell(0).setCellErrorValue(FormulaError.NA.getCode());
+            workbook.write(out);
+        }
+        return file;
+    }
+
+    /**
+     * Source sheet, which fails to read the row after the given rows count.
+     */
+    static class FailingSheet extends ExcelStreamingSheet {
+        private final int rowCount;
+        private int nextRowNum = 0;
+
+        FailingSheet(int rowCount) {
+            super(10);
+            this.rowCount = rowCount;
+        }
+
+        @Override
+        boolean readNextRow() throws IOException {
+            if (nextRowNum >= rowCount) {
+                throw new IOException("Broken sheet");
+            }
+            int rowNum = nextRowNum++;
+            createRow(rowNum).createCell(0).setCellValue("row " + rowNum);
+            return true;
+        }
+
+        @Override
+        void rewind() {
+            nextRowNum = 0;
+        }
+
+        @Override
+        void closeSource() {
+        }
+
+        @Override
+        public int getLastRowNum() {
+            return rowCount;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReusableExcelTableCellTest {
+
+    static Workbook workbook = new XSSFWorkbook();
+    Cell wrappeeCell;
+    ExcelCellDataAccessObject dao;
+    ReusableExcelTableCell cell;
+
+    @BeforeEach
+    void setUp() {
+        wrappeeCell = workbook.createSheet()
+                .createRow(10)
+                .createCell(20);
+        dao = spy(ExcelCellDataAccessObject.INSTANCE);
+        cell = ReusableExcelTableCell.create(ExcelCellCursorDataAccessObject.of(dao))
+                .bind(wrappeeCell);
+    }
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        workbook.close();
+    }
+
+    @Test
+    void getColumnIndex() {
+        assertEquals(20, cell.getColumnIndex());
+    }
+
+    @Test
+    void getValue() {
+        wrappeeCell.setCellValue(1.5);
+
+        assertEquals(1.5, cell.getValue());
+        assertEquals(BigDecimal.valueOf(1.5), cell.getBigDecimalValue());
+        assertEquals("1.5", cell.getStringValue());
+        verify(dao, atLeastOnce()).getValue(wrappeeCell);
+        verify(dao).getBigDecimalValue(wrappeeCell);
+        verify(dao).getStringValue(wrappeeCell);
+    }
+
+    @Test
+    void getLocalDateTimeValue() {
+        LocalDateTime dateTime = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+        wrappeeCell.setCellValue(dateTime);
+
+        assertEquals(dateTime, cell.getLocalDateTimeValue());
+        verify(dao).getLocalDateTimeValue(wrappeeCell);
+    }
+
+    @Test
+    void bind() {
+        Row row = wrappeeCell.getRow();
+        Cell otherCell = row.createCell(21);
+        otherCell.setCellValue("other");
+
+        assertSame(cell, cell.bind(otherCell));
+        assertEquals(21, cell.getColumnIndex());
+        assertEquals("other", cell.getStringValue());
+    }
+
+    @Test
+    void notBound() {
+        ReusableExcelTableCell notBoundCell = ReusableExcelTableCell.create();
+
+        assertThrows(NullPointerException.class, notBoundCell::getColumnIndex);
+    }
+
+    @Test
+    void toExcelTableCell() {
+        ExcelTableCell expected = ExcelTableCell.of(wrappeeCell, dao);
+
+        assertEquals(expected, cell.toExcelTableCell());
+    }
+
+    @Test
+    void createWithCellDataAccessObject() {
+        ExcelCellCursorDataAccessObject otherDao = ExcelCellCursorDataAccessObject.INSTANCE;
+
+        ReusableExcelTableCell actual = cell.createWithCellDataAccessObject(otherDao);
+
+        assertSame(otherDao, actual.getCellDataAccessObject());
+        cell.bind(wrappeeCell.getRow().createCell(22));
+        assertEquals(22, actual.getColumnIndex());  // shares cursor
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowCacheTest {
+
+    static Workbook workbook = new XSSFWorkbook();
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        workbook.close();
+    }
+
+    @Test
+    void get_leastRecentlyUsedEvicted() {
+        Sheet sheet = workbook.createSheet();
+        for (int i = 0; i < 3; i++) {
+            sheet.createRow(i);
+        }
+        AtomicInteger loads = new AtomicInteger();
+        RowCache cache = new RowCache(2);
+
+        ExcelTableRow row0 = cache.get(0, i -> load(sheet, i, loads));
+        cache.get(1, i -> load(sheet, i, loads));
+        assertSame(row0, cache.get(0, i -> load(sheet, i, loads)));  // row 1 is the least recently used now
+        cache.get(2, i -> load(sheet, i, loads));
+
+        assertSame(row0, cache.get(0, i -> load(sheet, i, loads)));
+        assertNotNull(cache.get(1, i -> load(sheet, i, loads)));
+        assertEquals(4, loads.get());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    void get_absentRowNotCached() {
+        RowCache cache = new RowCache(2);
+
+        assertNull(cache.get(0, i -> null));
+        assertNull(cache.get(0, i -> null));
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void clear() {
+        Sheet sheet = workbook.createSheet();
+        sheet.createRow(0);
+        RowCache cache = new RowCache(2);
+        ExcelTableRow row = cache.get(0, i -> ExcelTableRow.memoizing(sheet.getRow(i)));
+
+        cache.clear();
+
+        assertNotSame(row, cache.get(0, i -> ExcelTableRow.memoizing(sheet.getRow(i))));
+    }
+
+    @Test
+    void create_illegalSize() {
+        assertThrows(IllegalArgumentException.class, () -> new RowCache(0));
+    }
+
+    private static ExcelTableRow load(Sheet sheet, int i, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return ExcelTableRow.memoizing(sheet.getRow(i));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SheetValueIndexTest {
+
+    static Workbook workbook = new XSSFWorkbook();
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        workbook.close();
+    }
+
+    @Test
+    void find() {
+        SheetValueIndex index = createIndex(getTestSheet());
+
+        assertEquals(TableCellAddress.of(0, 1), index.find("12", 0, 2, 0, 2));
+        assertEquals(TableCellAddress.NOT_FOUND, index.find("12", 1, 2, 0, 2));
+        assertEquals(TableCellAddress.NOT_FOUND, index.find("12", 0, 2, 2, 3));
+        assertEquals(TableCellAddress.NOT_FOUND, index.find("xyz", 0, 2, 0, 2));
+        assertEquals(TableCellAddress.of(1, 0), index.find(21, 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(1, 0), index.find(21.0000001, 0, 5, 0, 5));
+        assertEquals(TableCellAddress.NOT_FOUND, index.find(21.01, 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(3, 0), index.find(true, 0, 5, 0, 5));
+        assertEquals(TableCellAddress.NOT_FOUND, index.find(false, 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(3, 2), index.find(null, 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(3, 2), index.find("", 0, 5, 0, 5));  // blank cell matches empty string
+        assertEquals(TableCellAddress.of(3, 3), index.find("", 0, 5, 3, 5));
+    }
+
+    @Test
+    void find_sameValueInManyCells() {
+        Sheet sheet = workbook.createSheet();
+        for (int i = 0; i < 10; i++) {
+            sheet.createRow(i).createCell(i % 3).setCellValue("x");
+        }
+        SheetValueIndex index = createIndex(sheet);
+
+        assertEquals(TableCellAddress.of(0, 0), index.find("x", 0, 10, 0, 3));
+        assertEquals(TableCellAddress.of(4, 1), index.find("x", 4, 10, 0, 3));
+        assertEquals(TableCellAddress.of(5, 2), index.find("x", 4, 10, 2, 3));
+        assertEquals(TableCellAddress.NOT_FOUND, index.find("x", 4, 5, 2, 3));
+    }
+
+    @Test
+    void find_formula() {
+        Sheet sheet = workbook.createSheet();
+        Cell cell = sheet.createRow(0).createCell(0);
+        cell.setCellFormula("20+2");
+        workbook.getCreationHelper()
+                .createFormulaEvaluator()
+                .evaluateFormulaCell(cell);
+        sheet.getRow(0).createCell(1).setCellErrorValue((byte) 7);
+        SheetValueIndex index = createIndex(sheet);
+
+        assertEquals(TableCellAddress.of(0, 0), index.find(22, 0, 1, 0, 2));
+        assertEquals(TableCellAddress.NOT_FOUND, index.find("#DIV/0!", 0, 1, 0, 2));
+    }
+
+    @Test
+    void findByPrefix() {
+        Sheet sheet = getTestSheet();
+        sheet.createRow(4).createCell(0).setCellValue("  Table 1 ");
+        sheet.getRow(4).createCell(1).setCellValue("Table 2");
+        SheetValueIndex index = createIndex(sheet);
+
+        assertEquals(TableCellAddress.of(0, 0), index.findByPrefix("1", 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(1, 1), index.findByPrefix("2", 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(4, 0), index.findByPrefix("Table", 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(4, 1), index.findByPrefix("Table 2", 0, 5, 0, 5));
+        assertEquals(TableCellAddress.of(4, 1), index.findByPrefix("Table", 0, 5, 1, 5));
+        assertEquals(TableCellAddress.NOT_FOUND, index.findByPrefix("Table 3", 0, 5, 0, 5));
+    }
+
+    @Test
+    void isIndexed() {
+        assertTrue(SheetValueIndex.isIndexed(null));
+        assertTrue(SheetValueIndex.isIndexed("x"));
+        assertTrue(SheetValueIndex.isIndexed(1));
+        assertTrue(SheetValueIndex.isIndexed(true));
+        assertFalse(SheetValueIndex.isIndexed(LocalDate.now()));
+    }
+
+    private static SheetValueIndex createIndex(Sheet sheet) {
+        return SheetValueIndex.of(sheet::getRow, sheet.getLastRowNum());
+    }
+
+    Sheet getTestSheet() {
+        Sheet sheet = workbook.createSheet();
+        sheet.createRow(0).createCell(0).setCellValue("11");
+        sheet.getRow(0).createCell(1).setCellValue("12");
+        sheet.createRow(1).createCell(0).setCellValue(21);
+        sheet.getRow(1).createCell(1).setCellValue("22");
+        Row row = sheet.createRow(3);
+        row.createCell(0).setCellValue(true);
+        row.createCell(1).setCellValue(LocalDate.of(2026, 1, 2));
+        row.createCell(2);  // blank
+        row.createCell(3).setCellValue("");
+        return sheet;
+    }
+}
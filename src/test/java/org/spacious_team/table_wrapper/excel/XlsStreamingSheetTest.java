@@ -0,0 +1,174 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.excel.ExcelTestFiles.dateTime;
+import static org.spacious_team.table_wrapper.excel.ExcelTestFiles.getCell;
+
+class XlsStreamingSheetTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void getRow() throws IOException {
+        try (XlsStreamingSheet reportPage = XlsStreamingSheet.open(createTestFile(), 0)) {
+            @Nullable ExcelTableRow row = reportPage.getRow(0);
+
+            assertNotNull(row);
+            assertEquals(0, row.getRowNum());
+            assertEquals("00", getCell(row, 0).getStringValue());
+            assertEquals(1, getCell(row, 1).getIntValue());
+            assertTrue((Boolean) getCell(row, 2).getValue());
+            assertEquals(dateTime, getCell(row, 3).getLocalDateTimeValue());
+            assertEquals(1.5, getCell(row, 4).getDoubleValue());
+            assertNull(reportPage.getRow(1));
+            assertNotNull(reportPage.getRow(2));
+            assertNull(reportPage.getRow(-1));
+            assertNull(reportPage.getRow(100));
+        }
+    }
+
+    @Test
+    void getRow_formulaResults() throws IOException {
+        try (XlsStreamingSheet reportPage = XlsStreamingSheet.open(createTestFile(), 0)) {
+            @Nullable ExcelTableRow row = reportPage.getRow(3);
+
+            assertNotNull(row);
+            assertEquals("ab", getCell(row, 1).getStringValue());
+            assertEquals(3, getCell(row, 2).getIntValue());
+            assertEquals("", getCell(row, 3).getValue());
+            assertThrows(ArithmeticException.class, () -> getCell(row, 4).getValue());
+        }
+    }
+
+    @Test
+    void getRow_sameAsHssfSheet() throws IOException {
+        Path file = createTestFile();
+        try (InputStream in = Files.newInputStream(file);
+             Workbook workbook = new HSSFWorkbook(in);
+             XlsStreamingSheet reportPage = XlsStreamingSheet.open(file, 0)) {
+            ExcelSheet expected = new ExcelSheet(workbook.getSheetAt(0));
+            assertEquals(expected.getLastRowNum(), reportPage.getLastRowNum());
+            for (int i = 0; i <= expected.getLastRowNum(); i++) {
+                @Nullable Row expectedRow = expected.getSheet().getRow(i);
+                @Nullable ExcelTableRow row = reportPage.getRow(i);
+                assertEquals(expectedRow == null, row == null, "row " + i);
+                if (expectedRow != null && row != null) {
+                    assertEquals(expectedRow.getPhysicalNumberOfCells(), row.getRow().getPhysicalNumberOfCells());
+                }
+            }
+        }
+    }
+
+    @Test
+    void getRow_emptyRow() throws IOException {
+        try (XlsStreamingSheet reportPage = XlsStreamingSheet.open(createTestFile(), 0)) {
+            @Nullable ExcelTableRow row = reportPage.getRow(5);
+
+            assertNotNull(row);
+            assertEquals(0, row.getRow().getPhysicalNumberOfCells());
+            assertNotNull(reportPage.getRow(6));
+        }
+    }
+
+    @Test
+    void getRow_bySheetName() throws IOException {
+        try (XlsStreamingSheet reportPage = XlsStreamingSheet.open(createTestFile(), "second")) {
+            @Nullable ExcelTableRow row = reportPage.getRow(0);
+
+            assertNotNull(row);
+            assertEquals("second sheet", getCell(row, 0).getStringValue());
+        }
+    }
+
+    @Test
+    void getRow_inputStream() throws IOException {
+        try (InputStream in = Files.newInputStream(createTestFile());
+             XlsStreamingSheet reportPage = XlsStreamingSheet.open(in, 1)) {
+            @Nullable ExcelTableRow row = reportPage.getRow(0);
+
+            assertNotNull(row);
+            assertEquals("second sheet", getCell(row, 0).getStringValue());
+        }
+    }
+
+    @Test
+    void getRow_evictedRow() throws IOException {
+        try (XlsStreamingSheet reportPage = XlsStreamingSheet.open(createTestFile(), 0, 2)) {
+            assertNotNull(reportPage.getRow(4));
+            assertNull(reportPage.getSheet().getRow(0));  // evicted from window
+
+            @Nullable ExcelTableRow row = reportPage.getRow(0);  // reread sheet
+
+            assertNotNull(row);
+            assertEquals("00", getCell(row, 0).getStringValue());
+        }
+    }
+
+    @Test
+    void getLastRowNum() throws IOException {
+        try (XlsStreamingSheet reportPage = XlsStreamingSheet.open(createTestFile(), 0)) {
+            assertEquals(6, reportPage.getLastRowNum());
+        }
+    }
+
+    @Test
+    void getLastRowNum_emptySheet() throws IOException {
+        try (XlsStreamingSheet reportPage = XlsStreamingSheet.open(createTestFile(), 2)) {
+            assertEquals(-1, reportPage.getLastRowNum());
+            assertNull(reportPage.getRow(0));
+        }
+    }
+
+    @Test
+    void find() throws IOException {
+        try (XlsStreamingSheet reportPage = XlsStreamingSheet.open(createTestFile(), 0, 2)) {
+            assertEquals(TableCellAddress.of(4, 1), reportPage.find("41"));
+            assertEquals(TableCellAddress.of(0, 1), reportPage.find(1));
+            assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("41", 0, 4, 0, 2));
+            assertEquals(TableCellAddress.of(3, 0), reportPage.find(0, 5, 0, 1, "30"::equals));
+            assertEquals(TableCellAddress.of(0, 3), reportPage.find(dateTime));
+        }
+    }
+
+    @Test
+    void open_sheetNotFound() throws IOException {
+        Path file = createTestFile();
+        assertThrows(IllegalArgumentException.class, () -> XlsStreamingSheet.open(file, "unknown"));
+    }
+
+    Path createTestFile() throws IOException {
+        return ExcelTestFiles.createTestFile(tempDir.resolve("test.xls"));
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Table Wrapper Excel Impl
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.table_wrapper.excel;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spacious_team.table_wrapper.api.TableCellAddress;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.table_wrapper.excel.ExcelTestFiles.dateTime;
+import static org.spacious_team.table_wrapper.excel.ExcelTestFiles.getCell;
+
+class XlsxStreamingSheetTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void getRow() throws IOException {
+        try (XlsxStreamingSheet reportPage = XlsxStreamingSheet.open(createTestFile(), 0)) {
+            @Nullable ExcelTableRow row = reportPage.getRow(0);
+
+            assertNotNull(row);
+            assertEquals(0, row.getRowNum());
+            assertEquals("00", getCell(row, 0).getStringValue());
+            assertEquals(1, getCell(row, 1).getIntValue());
+            assertTrue((Boolean) getCell(row, 2).getValue());
+            assertEquals(dateTime, getCell(row, 3).getLocalDateTimeValue());
+            assertNull(reportPage.getRow(1));
+            assertNotNull(reportPage.getRow(2));
+            assertNull(reportPage.getRow(-1));
+            assertNull(reportPage.getRow(100));
+        }
+    }
+
+    @Test
+    void getRow_formulaResults() throws IOException {
+        try (XlsxStreamingSheet reportPage = XlsxStreamingSheet.open(createTestFile(), 0)) {
+            @Nullable ExcelTableRow row = reportPage.getRow(3);
+
+            assertNotNull(row);
+            assertEquals("ab", getCell(row, 1).getStringValue());
+            assertEquals(3, getCell(row, 2).getIntValue());
+            assertThrows(ArithmeticException.class, () -> getCell(row, 4).getValue());
+        }
+    }
+
+    @Test
+    void getRow_bySheetName() throws IOException {
+        try (XlsxStreamingSheet reportPage = XlsxStreamingSheet.open(createTestFile(), "second")) {
+            @Nullable ExcelTableRow row = reportPage.getRow(0);
+
+            assertNotNull(row);
+            assertEquals("second sheet", getCell(row, 0).getStringValue());
+        }
+    }
+
+    @Test
+    void getRow_offHeapSharedStrings() throws IOException {
+        try (XlsxStreamingSheet reportPage = XlsxStreamingSheet.open(createTestFile(), 0, 2,
+                XlsxStreamingSheet.SharedStringsStorage.OFF_HEAP)) {
+            @Nullable ExcelTableRow row = reportPage.getRow(0);
+
+            assertNotNull(row);
+            assertEquals("00", getCell(row, 0).getStringValue());
+            assertEquals(TableCellAddress.of(4, 1), reportPage.find("41"));
+            assertEquals(TableCellAddress.of(0, 0), reportPage.find("00"));  // reread sheet
+        }
+    }
+
+    @Test
+    void getRow_evictedRow() throws IOException {
+        try (XlsxStreamingSheet reportPage = XlsxStreamingSheet.open(createTestFile(), 0, 2)) {
+            assertNotNull(reportPage.getRow(4));
+            assertNull(reportPage.getSheet().getRow(0));  // evicted from window
+
+            @Nullable ExcelTableRow row = reportPage.getRow(0);  // reread sheet
+
+            assertNotNull(row);
+            assertEquals("00", getCell(row, 0).getStringValue());
+        }
+    }
+
+    @Test
+    void getRow_phoneticRunsAndEscapes() throws IOException {
+        Path file = replace(createTestFile(), "xl/sharedStrings.xml",
+                "<si><t>00</t></si>", "<si><t>00</t><rPh sb=\"0\" eb=\"1\"><t>ph</t></rPh></si>");
+        file = replace(file, "xl/worksheets/sheet1.xml",
+                "<c r=\"A3\"[^>]*>.*?</c>",
+                "<c r=\"A3\" t=\"inlineStr\"><is><t>2_x0009_0</t><rPh sb=\"0\" eb=\"1\"><t>ph</t></rPh></is></c>");
+        for (XlsxStreamingSheet.SharedStringsStorage storage : XlsxStreamingSheet.SharedStringsStorage.values()) {
+            try (XlsxStreamingSheet reportPage = XlsxStreamingSheet.open(file, 0, 10, storage)) {
+                @Nullable ExcelTableRow row0 = reportPage.getRow(0);
+                @Nullable ExcelTableRow row2 = reportPage.getRow(2);
+
+                assertNotNull(row0);
+                assertNotNull(row2);
+                assertEquals("00", getCell(row0, 0).getStringValue());
+                assertEquals("2\t0", getCell(row2, 0).getStringValue());
+            }
+        }
+    }
+
+    @Test
+    void getLastRowNum() throws IOException {
+        try (XlsxStreamingSheet reportPage = XlsxStreamingSheet.open(createTestFile(), 0)) {
+            assertEquals(6, reportPage.getLastRowNum());
+        }
+    }
+
+    @Test
+    void getLastRowNum_staleDimension() throws IOException {
+        Path file = replace(createTestFile(), "xl/worksheets/sheet1.xml",
+                "<dimension ref=\"[^\"]*\"", "<dimension ref=\"A1:B2\"");
+        try (XlsxStreamingSheet reportPage = XlsxStreamingSheet.open(file, 0)) {
+            assertEquals(6, reportPage.getLastRowNum());
+            assertEquals(TableCellAddress.of(4, 1), reportPage.find("41"));
+        }
+    }
+
+    @Test
+    void getLastRowNum_emptySheet() throws IOException {
+        try (XlsxStreamingSheet reportPage = XlsxStreamingSheet.open(createTestFile(), 2)) {
+            assertEquals(-1, reportPage.getLastRowNum());
+            assertNull(reportPage.getRow(0));
+        }
+    }
+
+    @Test
+    void find() throws IOException {
+        try (XlsxStreamingSheet reportPage = XlsxStreamingSheet.open(createTestFile(), 0, 2)) {
+            assertEquals(TableCellAddress.of(4, 1), reportPage.find("41"));
+            assertEquals(TableCellAddress.of(0, 1), reportPage.find(1));
+            assertEquals(TableCellAddress.NOT_FOUND, reportPage.find("41", 0, 4, 0, 2));
+            assertEquals(TableCellAddress.of(3, 0), reportPage.find(0, 5, 0, 1, "30"::equals));
+        }
+    }
+
+    @Test
+    void findEmptyRow() throws IOException {
+        try (XlsxStreamingSheet reportPage = XlsxStreamingSheet.open(createTestFile(), 0)) {
+            assertEquals(1, reportPage.findEmptyRow(0, Integer.MAX_VALUE));
+            assertEquals(-1, reportPage.findEmptyRow(2, 5));
+            assertEquals(5, reportPage.findEmptyRow(2, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void open_sheetNotFound() throws IOException {
+        Path file = createTestFile();
+        assertThrows(IllegalArgumentException.class, () -> XlsxStreamingSheet.open(file, "unknown"));
+    }
+
+    @Test
+    void getColumnIndex() {
+        assertEquals(0, XlsxStreamingSheet.getColumnIndex("A1"));
+        assertEquals(25, XlsxStreamingSheet.getColumnIndex("Z100"));
+        assertEquals(27, XlsxStreamingSheet.getColumnIndex("AB12"));
+    }
+
+    Path createTestFile() throws IOException {
+        return ExcelTestFiles.createTestFile(tempDir.resolve("test.xlsx"));
+    }
+
+    /**
+     * Replaces the first regex match in the xlsx file entry
+     */
+    Path replace(Path file, String entryName, String regex, String replacement) throws IOException {
+        Path result = Files.createTempFile(tempDir, "test", ".xlsx");
+        try (ZipInputStream in = new ZipInputStream(Files.newInputStream(file));
+             ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(result))) {
+            for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+                byte[] content = in.readAllBytes();
+                if (entry.getName().equals(entryName)) {
+                    String xml = new String(content, UTF_8);
+                    String replaced = xml.replaceFirst(regex, replacement);
+                    assertNotEquals(xml, replaced);
+                    content = replaced.getBytes(UTF_8);
+                }
+                out.putNextEntry(new ZipEntry(entry.getName()));
+                out.write(content);
+                out.closeEntry();
+            }
+        }
+        return result;
+    }
+}